@@ -0,0 +1,10 @@
+-- 설문조사(title, description), 팀플(name) FULLTEXT(ngram) 인덱스
+-- 배포 전에 한 번만 실행 (첫 FULLTEXT 인덱스는 테이블을 다시 만들기 때문에 트래픽이 적은 시간에 실행)
+-- 인덱스가 없으면 서버는 LIKE 검색을 사용 (FullTextSearch)
+
+-- 기본 불용어(a, in, the ...)가 포함된 ngram 토큰은 인덱스에서 빠지므로 불용어 없이 인덱스를 생성
+-- (인덱스 생성 시점의 세션 값이 인덱스에 적용됨)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE survey ADD FULLTEXT INDEX ft_survey_title_description (title, description) WITH PARSER ngram;
+ALTER TABLE project ADD FULLTEXT INDEX ft_project_name (name) WITH PARSER ngram;
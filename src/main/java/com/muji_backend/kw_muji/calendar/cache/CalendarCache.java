@@ -0,0 +1,200 @@
+package com.muji_backend.kw_muji.calendar.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.muji_backend.kw_muji.calendar.dto.response.CalendarResponseDto;
+import com.muji_backend.kw_muji.user.service.RedisService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 월간 일정(CalendarResponseDto) 캐시
+ * 서버 로컬(Caffeine) -> Redis -> DB 순서로 조회
+ *
+ * 캐시 키에 사용자별 세대(generation)를 넣고, 일정/참여 변경 시 트랜잭션 커밋 후 영향받은 사용자의 세대를 올려 무효화
+ * - 세대가 바뀌면 이전 세대의 로컬/Redis 항목은 더 이상 조회되지 않음 (TTL로 정리)
+ * - 세대 키(calendar:gen:{userId})는 만료 없이 유지해 이전 세대 번호가 다시 쓰이지 않도록 함
+ * - DB 조회 전에 읽은 세대가 저장 직전에도 같을 때만 저장하므로, 조회 도중 커밋된 변경이 이전 값으로 덮이지 않음
+ * - 다른 서버에는 Redis 채널로 새 세대를 알려 로컬 세대를 맞춤
+ */
+@Slf4j
+@Component
+public class CalendarCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "calendar:";
+    private static final String GENERATION_KEY_PREFIX = "calendar:gen:";
+    private static final String INVALIDATE_CHANNEL = "calendar:invalidate";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CalendarResponseDto> localCache;
+    // 사용자 ID -> 현재 세대 (무효화 메시지를 놓쳐도 로컬 TTL이 지나면 Redis에서 다시 읽음)
+    private final Cache<Long, Long> generations;
+    private final Duration redisTtl;
+
+    public CalendarCache(StringRedisTemplate redisTemplate,
+                         RedisService redisService,
+                         ObjectMapper objectMapper,
+                         RedisMessageListenerContainer listenerContainer,
+                         @Value("${calendar.cache.local-ttl-seconds:60}") long localTtlSeconds,
+                         @Value("${calendar.cache.local-max-entries:10000}") long localMaxEntries,
+                         @Value("${calendar.cache.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(localMaxEntries)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시된 월간 일정을 조회하는 메서드
+     * 캐시에 없으면 loader로 계산한 결과를 두 캐시에 저장 (조회 도중 세대가 바뀌었으면 저장하지 않음)
+     * 세대를 읽을 수 없으면(Redis 장애) 캐시 없이 DB에서 조회
+     *
+     * @param userId    사용자 ID
+     * @param yearMonth 조회할 연도-월
+     * @param loader    DB 조회 함수
+     * @return 월간 일정
+     */
+    public CalendarResponseDto get(Long userId, YearMonth yearMonth, Supplier<CalendarResponseDto> loader) {
+        Long generation = generation(userId);
+        if (generation == null) {
+            return loader.get();
+        }
+        String key = key(userId, generation, yearMonth);
+
+        CalendarResponseDto cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = readRedis(key);
+        if (cached != null) {
+            localCache.put(key, cached);
+            return cached;
+        }
+
+        CalendarResponseDto loaded = loader.get();
+        if (generation.equals(generations.getIfPresent(userId))) {
+            localCache.put(key, loaded);
+            writeRedis(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 일정 변경 트랜잭션이 커밋된 뒤 영향받은 사용자의 세대를 올리는 메서드
+     * 세대가 키에 포함되므로 해당 사용자의 모든 월 캐시가 함께 무효화됨
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        List<Long> userIds = event.getUserIds().stream().distinct().toList();
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // Redis에 반영하지 못해도 이 서버에서는 이전 값을 쓰지 않도록 로컬 세대를 먼저 비움
+        generations.invalidateAll(userIds);
+
+        List<Object> results = redisService.pipelined(connection ->
+                userIds.forEach(userId -> connection.incr(GENERATION_KEY_PREFIX + userId)));
+        if (results.size() != userIds.size()) {
+            log.warn("일정 캐시 무효화 실패 - userIds: {}", userIds);
+            return;
+        }
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < userIds.size(); i++) {
+            long generation = ((Number) results.get(i)).longValue();
+            generations.put(userIds.get(i), generation);
+            message.append(message.isEmpty() ? "" : ",").append(userIds.get(i)).append(':').append(generation);
+        }
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message.toString());
+        } catch (RuntimeException e) {
+            log.warn("일정 캐시 무효화 메시지 전송 실패 - message: {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 보낸 무효화 메시지 처리 ("userId:세대" 목록) - 더 큰 세대로만 갱신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String entry : body.split(",")) {
+            int separator = entry.indexOf(':');
+            Long userId = Long.valueOf(entry.substring(0, separator));
+            long generation = Long.parseLong(entry.substring(separator + 1));
+            generations.asMap().merge(userId, generation, Math::max);
+        }
+    }
+
+    // == Private Methods ==
+
+    private String key(Long userId, long generation, YearMonth yearMonth) {
+        return KEY_PREFIX + userId + ":" + generation + ":" + yearMonth;
+    }
+
+    // 로컬에 없으면 Redis에서 읽음 (한 번도 변경되지 않은 사용자는 0), Redis 장애 시 null
+    private Long generation(Long userId) {
+        Long generation = generations.getIfPresent(userId);
+        if (generation != null) {
+            return generation;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+            generation = value != null ? Long.parseLong(value) : 0L;
+        } catch (RuntimeException e) {
+            log.warn("일정 캐시 세대 조회 실패 - userId: {}, message: {}", userId, e.getMessage());
+            return null;
+        }
+        return generations.asMap().merge(userId, generation, Math::max);
+    }
+
+    // Redis 장애 시에는 캐시 없이 DB에서 조회
+    private CalendarResponseDto readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json != null ? objectMapper.readValue(json, CalendarResponseDto.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("일정 캐시 조회 실패 - key: {}, message: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, CalendarResponseDto value) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("일정 캐시 저장 실패 - key: {}, message: {}", key, e.getMessage());
+        }
+    }
+}
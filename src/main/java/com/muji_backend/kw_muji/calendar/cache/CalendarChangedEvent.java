@@ -0,0 +1,17 @@
+package com.muji_backend.kw_muji.calendar.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * 일정이 추가되거나 삭제되었을 때, 또는 팀플 참여/시작/삭제로 일정 목록이 바뀌었을 때 발행되는 이벤트
+ * 영향받은 모든 사용자(팀플 일정이면 팀원 전체)의 일정 캐시와 버전을 갱신하는 데 사용
+ * 캐시는 사용자 단위로 무효화되므로 바뀐 월은 담지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarChangedEvent {
+    private final Collection<Long> userIds;
+}
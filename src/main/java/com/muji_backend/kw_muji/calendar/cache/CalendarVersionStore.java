@@ -0,0 +1,95 @@
+package com.muji_backend.kw_muji.calendar.cache;
+
+import com.muji_backend.kw_muji.user.service.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 사용자별 일정 버전 저장소 (Redis hash: version, modifiedAt)
+ * 일정이 추가/삭제될 때마다 버전이 올라가며, ICS 피드의 ETag/Last-Modified 값으로 사용
+ * 일정 변경 이벤트가 없는 변화(팀플 참여/종료 등)도 반영되도록 일정 시간이 지나면 버전을 새로 발급
+ */
+@Component
+public class CalendarVersionStore {
+
+    private static final String KEY_PREFIX = "calendar:version:";
+    private static final String VERSION_FIELD = "version";
+    private static final String MODIFIED_AT_FIELD = "modifiedAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisService redisService;
+    private final Duration versionTtl;
+
+    public CalendarVersionStore(StringRedisTemplate redisTemplate,
+                                RedisService redisService,
+                                @Value("${calendar.version.ttl-seconds:86400}") long versionTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisService = redisService;
+        this.versionTtl = Duration.ofSeconds(versionTtlSeconds);
+    }
+
+    /**
+     * 사용자의 현재 일정 버전을 조회하는 메서드
+     * 버전이 없으면(처음 조회, 만료, Redis 초기화) 현재 시각으로 새로 발급
+     *
+     * @param userId 사용자 ID
+     * @return 일정 버전
+     */
+    public CalendarVersion get(Long userId) {
+        String key = KEY_PREFIX + userId;
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+
+        Map<String, String> entries = hash.entries(key);
+        if (entries.containsKey(VERSION_FIELD) && entries.containsKey(MODIFIED_AT_FIELD)) {
+            return new CalendarVersion(userId, Long.parseLong(entries.get(VERSION_FIELD)), Long.parseLong(entries.get(MODIFIED_AT_FIELD)));
+        }
+
+        long now = currentSecondMillis();
+        hash.putIfAbsent(key, VERSION_FIELD, "1");
+        hash.putIfAbsent(key, MODIFIED_AT_FIELD, String.valueOf(now));
+        redisTemplate.expire(key, versionTtl);
+
+        entries = hash.entries(key);
+        return new CalendarVersion(userId, Long.parseLong(entries.get(VERSION_FIELD)), Long.parseLong(entries.get(MODIFIED_AT_FIELD)));
+    }
+
+    /**
+     * 일정 변경 트랜잭션이 커밋된 뒤 영향받은 사용자의 버전을 올리는 메서드
+     * 팀원 수만큼의 명령을 하나의 파이프라인으로 전송
+     *
+     * @param event 일정 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChanged(CalendarChangedEvent event) {
+        String now = String.valueOf(currentSecondMillis());
+        redisService.pipelined(connection -> event.getUserIds().stream().distinct().forEach(userId -> {
+            String key = KEY_PREFIX + userId;
+            connection.hIncrBy(key, VERSION_FIELD, 1);
+            connection.hSet(key, MODIFIED_AT_FIELD, now);
+            connection.expire(key, versionTtl.toSeconds());
+        }));
+    }
+
+    // == Private Methods ==
+
+    // Last-Modified 헤더는 초 단위이므로 밀리초를 버림
+    private long currentSecondMillis() {
+        return System.currentTimeMillis() / 1000 * 1000;
+    }
+
+    /**
+     * 사용자 일정 버전
+     * modifiedAt이 ETag에 함께 들어가므로 Redis가 초기화되어 버전이 1부터 다시 시작해도 이전 ETag와 겹치지 않음
+     */
+    public record CalendarVersion(Long userId, long version, long modifiedAt) {
+        public String etag() {
+            return "\"" + userId + "-" + version + "-" + modifiedAt + "\"";
+        }
+    }
+}
@@ -2,13 +2,19 @@ package com.muji_backend.kw_muji.calendar.controller;
 
 import com.muji_backend.kw_muji.calendar.dto.request.CalendarRequestDto;
 import com.muji_backend.kw_muji.calendar.dto.response.CalendarResponseDto;
+import com.muji_backend.kw_muji.calendar.cache.CalendarVersionStore.CalendarVersion;
+import com.muji_backend.kw_muji.calendar.service.CalendarFeedService;
 import com.muji_backend.kw_muji.calendar.service.CalendarService;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 @RestController
@@ -17,6 +23,7 @@ import java.util.Map;
 public class CalendarController {
 
     private final CalendarService calendarService;
+    private final CalendarFeedService calendarFeedService;
 
     @GetMapping("/{yearMonth}")
     public ResponseEntity<?> getCalendar(
@@ -33,6 +40,56 @@ public class CalendarController {
         }
     }
 
+    @GetMapping("/feed-token")
+    public ResponseEntity<?> getCalendarFeedToken(@AuthenticationPrincipal UserEntity userInfo) {
+        try {
+            String token = calendarFeedService.createFeedToken(userInfo);
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
+
+    // 피드 주소가 유출되었을 때 재발급 - 이전 피드 주소는 바로 무효화
+    @PostMapping("/feed-token/rotate")
+    public ResponseEntity<?> rotateCalendarFeedToken(@AuthenticationPrincipal UserEntity userInfo) {
+        try {
+            String token = calendarFeedService.rotateFeedToken(userInfo);
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", token));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
+
+    // 캘린더 앱 구독용 피드 - 일정 버전이 바뀌지 않았으면 일정 조회 없이 304 응답 (토큰 확인용 nonce만 조회)
+    @GetMapping("/ics/{token}")
+    public ResponseEntity<?> getCalendarFeed(
+            @PathVariable("token") String token,
+            WebRequest webRequest) {
+
+        try {
+            Long userId = calendarFeedService.resolveUserId(token);
+            CalendarVersion version = calendarFeedService.getVersion(userId);
+
+            if (webRequest.checkNotModified(version.etag(), version.modifiedAt())) {
+                return null; // 304 Not Modified (ETag, Last-Modified 헤더는 checkNotModified에서 설정)
+            }
+
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "calendar", StandardCharsets.UTF_8))
+                    .cacheControl(CacheControl.noCache())
+                    .body(calendarFeedService.render(userId, version.modifiedAt()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
+
     @PostMapping("/add")
     public ResponseEntity<?> addCalendarEvent(
             @AuthenticationPrincipal UserEntity userInfo,
@@ -21,6 +21,7 @@ public class CalendarResponseDto {
 
     @Data
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class ProjectDto {
         private Long projectId;
         private String name;
@@ -37,6 +38,7 @@ public class CalendarResponseDto {
 
     @Data
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class UnivEventDto {
         private Long univcalendarId;
         private String title;
@@ -45,6 +47,7 @@ public class CalendarResponseDto {
 
     @Data
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class UserEventDto {
         private Long usercalendarId;
         private String title;
@@ -54,6 +57,7 @@ public class CalendarResponseDto {
 
     @Data
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class ProjectEventDto {
         private Long usercalendarId;
         private Long projectId;
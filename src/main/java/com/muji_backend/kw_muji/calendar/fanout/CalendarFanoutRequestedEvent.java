@@ -0,0 +1,14 @@
+package com.muji_backend.kw_muji.calendar.fanout;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 팀플 일정 링크 생성 작업이 기록되었을 때 발행되는 이벤트
+ * 트랜잭션 커밋 후 CalendarFanoutWorker가 백그라운드에서 처리
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarFanoutRequestedEvent {
+    private final Long taskId;
+}
@@ -0,0 +1,126 @@
+package com.muji_backend.kw_muji.calendar.fanout;
+
+import com.muji_backend.kw_muji.calendar.cache.CalendarChangedEvent;
+import com.muji_backend.kw_muji.calendar.repository.CalendarFanoutTaskRepository;
+import com.muji_backend.kw_muji.calendar.repository.ParticipationRepository;
+import com.muji_backend.kw_muji.calendar.repository.UserCalendarRepository;
+import com.muji_backend.kw_muji.calendar.repository.UserEventLinkBatchRepository;
+import com.muji_backend.kw_muji.common.entity.CalendarFanoutTaskEntity;
+import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * 팀플 일정 링크 생성 작업을 처리하는 워커
+ * 일정 저장 트랜잭션이 커밋되면 바로 처리하고, 실패하거나 처리되지 못한 작업은 스케줄러가 재시도
+ * 링크 생성은 이미 있는 링크를 건너뛰므로 같은 작업이 여러 번 처리되어도 안전
+ */
+@Slf4j
+@Component
+public class CalendarFanoutWorker {
+
+    private static final List<ProjectRole> ACTIVE_ROLES = List.of(ProjectRole.CREATOR, ProjectRole.MEMBER);
+
+    private final CalendarFanoutTaskRepository taskRepository;
+    private final UserEventLinkBatchRepository userEventLinkBatchRepository;
+    private final UserCalendarRepository userCalendarRepository;
+    private final ParticipationRepository participationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor fanoutExecutor;
+
+    @Value("${calendar.fanout.retry-batch-size:100}")
+    private int retryBatchSize;
+
+    @Value("${calendar.fanout.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    public CalendarFanoutWorker(CalendarFanoutTaskRepository taskRepository,
+                                UserEventLinkBatchRepository userEventLinkBatchRepository,
+                                UserCalendarRepository userCalendarRepository,
+                                ParticipationRepository participationRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("calendarFanoutExecutor") Executor fanoutExecutor) {
+        this.taskRepository = taskRepository;
+        this.userEventLinkBatchRepository = userEventLinkBatchRepository;
+        this.userCalendarRepository = userCalendarRepository;
+        this.participationRepository = participationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fanoutExecutor = fanoutExecutor;
+    }
+
+    // 일정 저장 트랜잭션이 커밋된 뒤 백그라운드에서 처리
+    @TransactionalEventListener
+    public void onFanoutRequested(CalendarFanoutRequestedEvent event) {
+        fanoutExecutor.execute(() -> process(event.getTaskId()));
+    }
+
+    /**
+     * 재시도 시각이 지난 작업을 다시 처리하는 메서드
+     * CalendarScheduledTask에서 주기적으로 호출
+     */
+    public void retryDueTasks() {
+        List<Long> taskIds = taskRepository.findIdsDueBefore(now(), Limit.of(retryBatchSize));
+        taskIds.forEach(this::process);
+    }
+
+    // == Private Methods ==
+
+    private void process(Long taskId) {
+        try {
+            List<Long> userIds = transactionTemplate.execute(status -> fanout(taskId));
+            if (userIds != null) {
+                // 커밋 후 링크를 받은 팀원들의 캐시 무효화
+                eventPublisher.publishEvent(new CalendarChangedEvent(userIds));
+            }
+        } catch (RuntimeException e) {
+            log.warn("팀플 일정 링크 생성 실패 - taskId: {}, message: {}", taskId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> scheduleRetry(taskId));
+        }
+    }
+
+    // 작업을 잠그고 링크를 생성한 뒤 작업 삭제 - 링크를 받은 팀원 ID 반환, 다른 서버가 이미 처리했다면 null 반환
+    private List<Long> fanout(Long taskId) {
+        CalendarFanoutTaskEntity task = taskRepository.findByIdForUpdate(taskId).orElse(null);
+        if (task == null) {
+            return null;
+        }
+
+        userEventLinkBatchRepository.insertProjectLinks(task.getUserCalendarId(), task.getProjectId());
+        taskRepository.delete(task);
+
+        // 그 사이 일정이 삭제되었다면 무효화할 캐시도 없음
+        if (!userCalendarRepository.existsById(task.getUserCalendarId())) {
+            return null;
+        }
+        return participationRepository.findUserIdsByProjectIdAndRoleIn(task.getProjectId(), ACTIVE_ROLES);
+    }
+
+    // 실패 횟수에 따라 재시도 간격을 늘림 (1분, 2분, 4분, ... 최대 maxBackoffSeconds)
+    private void scheduleRetry(Long taskId) {
+        taskRepository.findByIdForUpdate(taskId).ifPresent(task -> {
+            int attempts = task.getAttempts() + 1;
+            long backoffSeconds = Math.min(maxBackoffSeconds, 60L << Math.min(attempts - 1, 16));
+            task.setAttempts(attempts);
+            task.setNextAttemptAt(now().plusSeconds(backoffSeconds));
+        });
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    }
+}
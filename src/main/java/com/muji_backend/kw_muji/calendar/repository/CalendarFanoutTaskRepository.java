@@ -0,0 +1,26 @@
+package com.muji_backend.kw_muji.calendar.repository;
+
+import com.muji_backend.kw_muji.common.entity.CalendarFanoutTaskEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CalendarFanoutTaskRepository extends JpaRepository<CalendarFanoutTaskEntity, Long> {
+    // 작업을 잠그고 조회 - 여러 서버가 같은 작업을 동시에 처리하지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM CalendarFanoutTaskEntity t WHERE t.id = :id")
+    Optional<CalendarFanoutTaskEntity> findByIdForUpdate(@Param("id") Long id);
+
+    // 재시도 시각이 지난 작업의 ID 조회 - 오래된 순
+    @Query("SELECT t.id FROM CalendarFanoutTaskEntity t WHERE t.nextAttemptAt <= :now ORDER BY t.id")
+    List<Long> findIdsDueBefore(@Param("now") LocalDateTime now, Limit limit);
+}
@@ -4,7 +4,10 @@ import com.muji_backend.kw_muji.common.entity.ParticipationEntity;
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +15,10 @@ import java.util.List;
 @Repository
 public interface ParticipationRepository extends JpaRepository<ParticipationEntity, Long> {
     // 유저가 참여 중인 프로젝트를 조회 (Role이 CREATOR 또는 MEMBER인 경우, 그리고 프로젝트 시작 값이 true인 경우)
+    @EntityGraph(attributePaths = {"project", "users"})
     List<ParticipationEntity> findAllByUsersAndRoleInAndProjectStartTrue(UserEntity user, List<ProjectRole> roles);
 
-    // 특정 프로젝트에 속한 팀원 중 Role이 CREATOR 또는 MEMBER인 팀원들을 조회하는 메서드
-    List<ParticipationEntity> findAllByProjectAndRoleIn(ProjectEntity project, List<ProjectRole> roles);
+    // 특정 프로젝트에 속한 팀원 중 Role이 CREATOR 또는 MEMBER인 팀원들의 ID만 조회
+    @Query("SELECT p.users.id FROM ParticipationEntity p WHERE p.project.id = :projectId AND p.role IN :roles")
+    List<Long> findUserIdsByProjectIdAndRoleIn(@Param("projectId") Long projectId, @Param("roles") List<ProjectRole> roles);
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.muji_backend.kw_muji.calendar.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 팀플 일정 링크(userEventLink) 일괄 생성
+ * UserEventLinkEntity는 IDENTITY 전략이라 팀원마다 insert가 한 번씩 나가므로,
+ * participation에서 바로 선택하는 INSERT ... SELECT 한 번으로 팀원 전체의 링크를 생성
+ * 이미 링크가 있는 팀원은 건너뛰므로 같은 작업을 여러 번 실행해도 결과가 같음
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserEventLinkBatchRepository {
+
+    private static final String INSERT_PROJECT_LINKS =
+            "INSERT INTO user_event_link (user_id, project_id, user_calendar_id) " +
+            "SELECT p.user_id, p.project_id, c.id " +
+            "FROM participation p JOIN user_calendar c ON c.id = ? " +
+            "WHERE p.project_id = ? AND p.role IN ('CREATOR', 'MEMBER') " +
+            "AND NOT EXISTS (SELECT 1 FROM user_event_link l WHERE l.user_calendar_id = c.id AND l.user_id = p.user_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 프로젝트의 CREATOR, MEMBER 전원에게 일정 링크를 생성하는 메서드
+     * 일정이 이미 삭제된 경우에는 아무것도 생성하지 않음
+     *
+     * @param userCalendarId 일정 ID
+     * @param projectId      프로젝트 ID
+     * @return 생성된 링크 수
+     */
+    public int insertProjectLinks(Long userCalendarId, Long projectId) {
+        return jdbcTemplate.update(INSERT_PROJECT_LINKS, userCalendarId, projectId);
+    }
+
+    /**
+     * 특정 팀원 한 명에게만 일정 링크를 생성하는 메서드
+     *
+     * @param userCalendarId 일정 ID
+     * @param projectId      프로젝트 ID
+     * @param userId         팀원 ID
+     * @return 생성된 링크 수
+     */
+    public int insertProjectLink(Long userCalendarId, Long projectId, Long userId) {
+        return jdbcTemplate.update(INSERT_PROJECT_LINKS + " AND p.user_id = ?", userCalendarId, projectId, userId);
+    }
+}
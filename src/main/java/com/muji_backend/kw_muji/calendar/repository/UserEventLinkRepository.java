@@ -1,22 +1,41 @@
 package com.muji_backend.kw_muji.calendar.repository;
 
-import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.UserCalendarEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.common.entity.UserEventLinkEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserEventLinkRepository extends JpaRepository<UserEventLinkEntity, Long> {
-    // 개인 일정 조회 (projectId가 null인 경우)
-    List<UserEventLinkEntity> findAllByUsersAndProjectIsNull(UserEntity user);
+    // 기간 내 개인 일정 조회 (projectId가 null인 경우) - 날짜 오름차순
+    @Query("SELECT c FROM UserEventLinkEntity l JOIN l.userCalendar c " +
+            "WHERE l.users = :user AND l.project IS NULL " +
+            "AND c.eventDate >= :start AND c.eventDate < :end " +
+            "ORDER BY c.eventDate")
+    List<UserCalendarEntity> findUserEventsBetween(@Param("user") UserEntity user,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
 
-    // 팀플 일정 조회 (projectId가 있는 경우)
-    List<UserEventLinkEntity> findAllByProject(ProjectEntity project);
+    // 기간 내 팀플 일정 중 본인 일정만 조회 - 날짜 오름차순
+    @Query("SELECT l FROM UserEventLinkEntity l JOIN FETCH l.userCalendar c JOIN FETCH l.project p JOIN FETCH l.users " +
+            "WHERE l.users = :user AND p.id IN :projectIds " +
+            "AND c.eventDate >= :start AND c.eventDate < :end " +
+            "ORDER BY c.eventDate")
+    List<UserEventLinkEntity> findProjectEventsBetween(@Param("user") UserEntity user,
+                                                       @Param("projectIds") List<Long> projectIds,
+                                                       @Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end);
+
+    // 특정 일정과 연결된 모든 사용자 ID 조회 (팀플 일정이면 팀원 전체)
+    @Query("SELECT l.users.id FROM UserEventLinkEntity l WHERE l.userCalendar.id = :userCalendarId")
+    List<Long> findUserIdsByUserCalendarId(@Param("userCalendarId") Long userCalendarId);
 
     // 해당 사용자가 특정 일정 링크를 가지고 있는지 조회
     Optional<UserEventLinkEntity> findByUsersAndUserCalendarId(UserEntity user, Long userCalendarId);
@@ -0,0 +1,22 @@
+package com.muji_backend.kw_muji.calendar.scheduling;
+
+import com.muji_backend.kw_muji.calendar.fanout.CalendarFanoutWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CalendarScheduledTask {
+
+    private final CalendarFanoutWorker calendarFanoutWorker;
+
+    /**
+     * 처리되지 못한 팀플 일정 링크 생성 작업을 주기적으로 재시도
+     * 서버 종료나 DB 오류로 커밋 직후 처리에 실패한 작업이 대상
+     */
+    @Scheduled(fixedDelayString = "${calendar.fanout.retry-interval-ms:60000}")
+    public void retryCalendarFanout() {
+        calendarFanoutWorker.retryDueTasks();
+    }
+}
@@ -0,0 +1,250 @@
+package com.muji_backend.kw_muji.calendar.service;
+
+import com.muji_backend.kw_muji.calendar.cache.CalendarVersionStore;
+import com.muji_backend.kw_muji.calendar.cache.CalendarVersionStore.CalendarVersion;
+import com.muji_backend.kw_muji.calendar.dto.response.CalendarResponseDto;
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.user.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * 캘린더 앱 구독용 ICS 피드
+ * 피드 주소에는 사용자 ID, 사용자별 nonce, 서명(HMAC)으로 만든 토큰이 들어가며, 인증 헤더 없이 조회 가능
+ * 서명 키는 JWT와 분리된 calendar.feed.secret을 사용하고, nonce를 재발급하면 이전 피드 주소는 더 이상 동작하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final String UID_DOMAIN = "@kwmuji.com";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final CalendarService calendarService;
+    private final CalendarVersionStore calendarVersionStore;
+    private final UserRepository userRepository;
+
+    @Value("${calendar.feed.secret}")
+    private String feedSecret;
+
+    @Value("${calendar.feed.past-months:1}")
+    private int pastMonths;
+
+    @Value("${calendar.feed.future-months:12}")
+    private int futureMonths;
+
+    /**
+     * 사용자의 피드 토큰을 발급하는 메서드
+     * 처음 발급할 때 nonce를 만들어 저장하고, 이후에는 같은 토큰을 반환
+     *
+     * @param userInfo 현재 인증된 사용자 정보
+     * @return 피드 토큰 (userId.nonce.서명)
+     */
+    @Transactional
+    public String createFeedToken(UserEntity userInfo) {
+        if (userInfo == null) {
+            throw new IllegalArgumentException("유저 정보가 필요합니다.");
+        }
+
+        String nonce = userRepository.findCalendarFeedNonceById(userInfo.getId()).orElse(null);
+        if (nonce != null) {
+            return token(userInfo.getId(), nonce);
+        }
+
+        nonce = newNonce();
+        if (userRepository.initCalendarFeedNonce(userInfo.getId(), nonce) == 1) {
+            return token(userInfo.getId(), nonce);
+        }
+
+        // 동시에 들어온 다른 요청이 먼저 저장한 경우 - 일반 조회는 트랜잭션 시작 시점의 값(null)을 보므로 잠금 조회로 다시 읽음
+        String stored = userRepository.findByIdForUpdate(userInfo.getId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."))
+                .getCalendarFeedNonce();
+        return token(userInfo.getId(), stored);
+    }
+
+    /**
+     * 피드 토큰을 재발급하는 메서드 (피드 주소가 유출되었을 때 사용)
+     * nonce를 새로 만들어 저장하므로 이전 토큰은 바로 무효화됨
+     *
+     * @param userInfo 현재 인증된 사용자 정보
+     * @return 새 피드 토큰
+     */
+    @Transactional
+    public String rotateFeedToken(UserEntity userInfo) {
+        if (userInfo == null) {
+            throw new IllegalArgumentException("유저 정보가 필요합니다.");
+        }
+
+        String nonce = newNonce();
+        if (userRepository.updateCalendarFeedNonce(userInfo.getId(), nonce) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        return token(userInfo.getId(), nonce);
+    }
+
+    /**
+     * 피드 토큰을 검증하고 사용자 ID를 반환하는 메서드
+     * 서명을 먼저 확인하고, 서명이 맞을 때만 저장된 nonce와 비교 (사용자 ID로 nonce 컬럼만 조회)
+     *
+     * @param token 피드 토큰
+     * @return 사용자 ID
+     */
+    public Long resolveUserId(String token) {
+        String[] parts = token != null ? token.split("\\.") : new String[0];
+        if (parts.length != 3 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            throw new IllegalArgumentException("잘못된 피드 주소입니다.");
+        }
+
+        Long userId;
+        try {
+            userId = Long.valueOf(parts[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 피드 주소입니다.");
+        }
+
+        byte[] expected = sign(userId, parts[1]).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = parts[2].getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new IllegalArgumentException("잘못된 피드 주소입니다.");
+        }
+
+        // 재발급으로 바뀐 nonce의 토큰은 서명이 맞아도 거부
+        String nonce = userRepository.findCalendarFeedNonceById(userId).orElse(null);
+        if (nonce == null || !MessageDigest.isEqual(nonce.getBytes(StandardCharsets.US_ASCII), parts[1].getBytes(StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException("잘못된 피드 주소입니다.");
+        }
+        return userId;
+    }
+
+    /**
+     * 사용자의 현재 일정 버전을 조회하는 메서드 (Redis만 조회하며 DB는 조회하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @return 일정 버전 (ETag, Last-Modified 값)
+     */
+    public CalendarVersion getVersion(Long userId) {
+        return calendarVersionStore.get(userId);
+    }
+
+    /**
+     * 사용자의 일정을 ICS(iCalendar) 문자열로 만드는 메서드
+     * 지난 pastMonths개월부터 앞으로 futureMonths개월까지의 일정을 포함
+     *
+     * @param userId     사용자 ID
+     * @param modifiedAt 일정 버전의 마지막 변경 시각 (DTSTAMP로 사용)
+     * @return ICS 문자열
+     */
+    public String render(Long userId, long modifiedAt) {
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+
+        YearMonth now = YearMonth.now(ZONE);
+        CalendarResponseDto calendar = calendarService.getCalendarEventsBetween(
+                user, now.minusMonths(pastMonths).atDay(1), now.plusMonths(futureMonths + 1L).atDay(1));
+        String stamp = UTC_DATE_TIME.format(Instant.ofEpochMilli(modifiedAt));
+
+        StringBuilder ics = new StringBuilder();
+        line(ics, "BEGIN:VCALENDAR");
+        line(ics, "VERSION:2.0");
+        line(ics, "PRODID:-//KW-MUJI//Calendar//KO");
+        line(ics, "CALSCALE:GREGORIAN");
+        line(ics, "X-WR-CALNAME:KW-MUJI");
+
+        // 대학 일정은 종일 일정
+        calendar.getEvents().getUnivEvents().forEach(e -> {
+            line(ics, "BEGIN:VEVENT");
+            line(ics, "UID:univ-" + e.getUnivcalendarId() + UID_DOMAIN);
+            line(ics, "DTSTAMP:" + stamp);
+            line(ics, "DTSTART;VALUE=DATE:" + DATE.format(e.getEventDate()));
+            line(ics, "DTEND;VALUE=DATE:" + DATE.format(e.getEventDate().plusDays(1)));
+            line(ics, "SUMMARY:" + escape(e.getTitle()));
+            line(ics, "END:VEVENT");
+        });
+        calendar.getEvents().getUserEvents().forEach(e ->
+                timedEvent(ics, "user-" + e.getUsercalendarId(), stamp, e.getEventDate(), e.getTitle()));
+        calendar.getEvents().getProjectEvents().forEach(e ->
+                timedEvent(ics, "project-" + e.getUsercalendarId(), stamp, e.getEventDate(), "[" + e.getName() + "] " + e.getTitle()));
+
+        line(ics, "END:VCALENDAR");
+        return ics.toString();
+    }
+
+    // == Private Methods ==
+
+    private String token(Long userId, String nonce) {
+        return userId + "." + nonce + "." + sign(userId, nonce);
+    }
+
+    // 128비트 난수 (URL에 그대로 쓸 수 있도록 Base64 URL 인코딩)
+    private String newNonce() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String sign(Long userId, String nonce) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(feedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            byte[] signature = mac.doFinal(("calendar-feed:" + userId + ":" + nonce).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("피드 토큰 서명에 실패했습니다.", e);
+        }
+    }
+
+    private void timedEvent(StringBuilder ics, String uid, String stamp, LocalDateTime eventDate, String title) {
+        line(ics, "BEGIN:VEVENT");
+        line(ics, "UID:" + uid + UID_DOMAIN);
+        line(ics, "DTSTAMP:" + stamp);
+        line(ics, "DTSTART:" + UTC_DATE_TIME.format(eventDate.atZone(ZONE)));
+        line(ics, "SUMMARY:" + escape(title));
+        line(ics, "END:VEVENT");
+    }
+
+    // RFC 5545 - 한 줄은 75바이트를 넘지 않도록 접고(CRLF + 공백), 줄바꿈은 CRLF 사용
+    private void line(StringBuilder ics, String content) {
+        int bytes = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = String.valueOf(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (bytes + size > 75) {
+                ics.append("\r\n ");
+                bytes = 1;
+            }
+            ics.appendCodePoint(codePoint);
+            bytes += size;
+            i += Character.charCount(codePoint);
+        }
+        ics.append("\r\n");
+    }
+
+    // RFC 5545 - TEXT 값의 특수문자 이스케이프
+    private String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
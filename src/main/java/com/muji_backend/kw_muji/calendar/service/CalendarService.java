@@ -1,19 +1,25 @@
 package com.muji_backend.kw_muji.calendar.service;
 
+import com.muji_backend.kw_muji.calendar.cache.CalendarCache;
+import com.muji_backend.kw_muji.calendar.cache.CalendarChangedEvent;
 import com.muji_backend.kw_muji.calendar.dto.request.CalendarRequestDto;
 import com.muji_backend.kw_muji.calendar.dto.response.CalendarResponseDto;
+import com.muji_backend.kw_muji.calendar.fanout.CalendarFanoutRequestedEvent;
 import com.muji_backend.kw_muji.calendar.repository.*;
 import com.muji_backend.kw_muji.common.entity.*;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -27,9 +33,18 @@ public class CalendarService {
     private final ParticipationRepository participationRepository;
     private final ProjectRepository projectRepository;
     private final UserEventLinkRepository userEventLinkRepository;
+    private final UserEventLinkBatchRepository userEventLinkBatchRepository;
+    private final CalendarFanoutTaskRepository calendarFanoutTaskRepository;
+    private final CalendarCache calendarCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 팀원 수가 이 값을 넘으면 작성자 링크만 바로 만들고 나머지 팀원 링크는 백그라운드에서 생성
+    @Value("${calendar.fanout.async-threshold:50}")
+    private int fanoutAsyncThreshold;
 
     /**
      * 참여 팀플, 대학, 개인, 그리고 참여 중인 프로젝트 일정을 조회하는 메서드
+     * (userId, 연도-월) 단위로 캐시되며, 일정 추가/삭제 시 영향받은 사용자의 캐시를 모두 무효화
      *
      * @param userInfo  현재 인증된 사용자 정보
      * @param yearMonth 조회할 연도-월 (yyyy-MM 형식)
@@ -47,19 +62,28 @@ public class CalendarService {
             throw new IllegalArgumentException("잘못된 날짜 형식입니다. yyyy-MM 형식을 사용해주세요.");
         }
 
-        LocalDateTime startDateTime = ym.atDay(1).atStartOfDay();
-        LocalDateTime endDateTime = ym.atEndOfMonth().atTime(23, 59, 59);
+        return calendarCache.get(userInfo.getId(), ym, () -> getCalendarEventsBetween(userInfo, ym.atDay(1), ym.plusMonths(1).atDay(1)));
+    }
+
+    /**
+     * 기간 내 참여 팀플, 대학, 개인, 프로젝트 일정을 DB에서 조회하는 메서드 (캐시를 거치지 않음)
+     * 월 단위 조회와 ICS 피드에서 사용
+     *
+     * @param userInfo 사용자 정보 (ID만 있으면 됨)
+     * @param from     시작일 (포함)
+     * @param to       종료일 (제외)
+     * @return CalendarResponseDto 기간 내 일정 데이터를 포함한 응답 DTO
+     */
+    public CalendarResponseDto getCalendarEventsBetween(UserEntity userInfo, LocalDate from, LocalDate to) {
+        LocalDateTime startDateTime = from.atStartOfDay();
+        LocalDateTime endExclusive = to.atStartOfDay();
+        LocalDateTime endDateTime = endExclusive.minusSeconds(1);
 
         // 대학 일정 조회
         List<UnivCalendarEntity> univEvents = safeList(() -> univCalendarRepository.findAllByUsersAndEventDateBetween(userInfo, startDateTime, endDateTime));
 
-        // 개인 일정 조회 (projectId가 null인 경우)
-        List<UserCalendarEntity> userEvents = safeList(() -> userEventLinkRepository.findAllByUsersAndProjectIsNull(userInfo).stream()
-                .map(UserEventLinkEntity::getUserCalendar)
-                .filter(calendar -> calendar.getEventDate().isAfter(startDateTime) && calendar.getEventDate().isBefore(endDateTime)) // 날짜 범위에 있는 일정만 필터링
-                .sorted(Comparator.comparing(UserCalendarEntity::getEventDate)) // 날짜 오름차순
-                .toList()
-        );
+        // 개인 일정 조회 (projectId가 null인 경우, 기간 내 일정만 날짜 오름차순으로 조회)
+        List<UserCalendarEntity> userEvents = safeList(() -> userEventLinkRepository.findUserEventsBetween(userInfo, startDateTime, endExclusive));
 
 
         // 참여중인 프로젝트 조회 (Role이 CREATOR나 MEMBER인 경우, start 값이 true인 프로젝트)
@@ -68,10 +92,13 @@ public class CalendarService {
                 .map(ParticipationEntity::getProject)
                 .toList();
 
-        // 참여중인 프로젝트 일정 조회
-        List<CalendarResponseDto.ProjectEventDto> projectEvents = safeList(() -> projects.stream()
-                .flatMap(project -> userEventLinkRepository.findAllByProject(project).stream())
-                .filter(link -> link.getUsers().getId().equals(userInfo.getId())) // 타 유저 일정 중복 조회 방지
+        // 참여중인 프로젝트 일정 조회 (본인 일정 중 기간 내 일정만 날짜 오름차순으로 조회)
+        List<Long> projectIds = projects.stream().map(ProjectEntity::getId).toList();
+        List<UserEventLinkEntity> projectEventLinks = projectIds.isEmpty()
+                ? List.of()
+                : userEventLinkRepository.findProjectEventsBetween(userInfo, projectIds, startDateTime, endExclusive);
+
+        List<CalendarResponseDto.ProjectEventDto> projectEvents = safeList(() -> projectEventLinks.stream()
                 .map(link -> {
                     UserCalendarEntity calendar = link.getUserCalendar();
                     ProjectEntity project = link.getProject();
@@ -83,8 +110,6 @@ public class CalendarService {
                             calendar.getEventDate()
                     );
                 })
-                .filter(dto -> dto.getEventDate().isAfter(startDateTime) && dto.getEventDate().isBefore(endDateTime)) // 날짜 범위에 있는 일정만 필터링
-                .sorted(Comparator.comparing(CalendarResponseDto.ProjectEventDto::getEventDate)) // 날짜 오름차순
                 .toList()
         );
 
@@ -117,6 +142,8 @@ public class CalendarService {
      * 프로젝트 ID가 null인 경우 개인 일정으로 처리
      * 프로젝트 ID가 있을 경우 팀플에 속한 팀원들에게도 동일한 일정이 추가
      * 팀원의 Role이 CREATOR나 MEMBER이고, 프로젝트의 start 값이 true인 경우에만 일정이 추가됨
+     * 팀원 링크는 한 번의 INSERT ... SELECT로 생성하며, 팀원 수가 많으면 작성자 링크만 바로 생성하고
+     * 나머지는 커밋 후 CalendarFanoutWorker가 생성
      *
      * @param userInfo   현재 인증된 사용자 정보
      * @param requestDto 일정 생성에 필요한 데이터 (제목, 날짜, 프로젝트 ID 등)
@@ -143,22 +170,38 @@ public class CalendarService {
         userCalendarRepository.save(calendarEntity);
 
         Long userCalendarId = calendarEntity.getId();
+        List<Long> affectedUserIds = new ArrayList<>();
 
         if (project == null) { // 개인 일정인 경우
             addUserEventLink(userInfo, null, calendarEntity);
+            affectedUserIds.add(userInfo.getId());
         }
         else if(project.isStart()){ // 프로젝트 일정인 경우
             // 프로젝트와 연결된 모든 CREATOR 또는 MEMBER 참여자에게 동일한 일정 연결
-            List<ParticipationEntity> participats = participationRepository.findAllByProjectAndRoleIn(project, List.of(ProjectRole.CREATOR, ProjectRole.MEMBER));
-
-            for (ParticipationEntity participant : participats) {
-                addUserEventLink(participant.getUsers(), project, calendarEntity);
+            List<Long> memberIds = participationRepository.findUserIdsByProjectIdAndRoleIn(project.getId(), List.of(ProjectRole.CREATOR, ProjectRole.MEMBER));
+
+            if (memberIds.size() <= fanoutAsyncThreshold) {
+                userEventLinkBatchRepository.insertProjectLinks(userCalendarId, project.getId());
+                affectedUserIds.addAll(memberIds);
+            } else {
+                // 작성자는 바로 일정을 볼 수 있도록 먼저 연결하고, 나머지 팀원은 작업으로 기록
+                userEventLinkBatchRepository.insertProjectLink(userCalendarId, project.getId(), userInfo.getId());
+                affectedUserIds.add(userInfo.getId());
+
+                CalendarFanoutTaskEntity task = calendarFanoutTaskRepository.save(CalendarFanoutTaskEntity.builder()
+                        .userCalendarId(userCalendarId)
+                        .projectId(project.getId())
+                        .build());
+                eventPublisher.publishEvent(new CalendarFanoutRequestedEvent(task.getId()));
             }
         }
         else {
             throw new IllegalStateException("아직 시작되지 않은 팀플입니다. projectId: " + project.getId());
         }
 
+        // 커밋 후 일정을 받은 모든 사용자의 캐시 무효화
+        eventPublisher.publishEvent(new CalendarChangedEvent(affectedUserIds));
+
         return userCalendarId;
     }
 
@@ -190,10 +233,17 @@ public class CalendarService {
         UserEventLinkEntity userEventLink = userEventLinkRepository.findByUsersAndUserCalendarId(userInfo, usercalendarId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 일정을 찾을 수 없습니다. usercalendarId: " + usercalendarId));
 
+        // 삭제 전에 일정과 연결된 모든 사용자 조회 (팀플 일정이면 팀원 전체)
+        UserCalendarEntity userCalendar = userEventLink.getUserCalendar();
+        List<Long> affectedUserIds = userEventLinkRepository.findUserIdsByUserCalendarId(userCalendar.getId());
+
         // UserEventLink 삭제
         userEventLinkRepository.delete(userEventLink);
 
         // UserCalendarEntity 삭제
-        userCalendarRepository.delete(userEventLink.getUserCalendar());
+        userCalendarRepository.delete(userCalendar);
+
+        // 커밋 후 영향받은 사용자의 캐시 무효화
+        eventPublisher.publishEvent(new CalendarChangedEvent(affectedUserIds));
     }
 }
@@ -0,0 +1,51 @@
+package com.muji_backend.kw_muji.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // 공지사항 캐시 갱신용 - 학교 홈페이지로 나가는 동시 요청 수를 제한
+    @Bean(name = "noticeRefreshExecutor")
+    public ThreadPoolTaskExecutor noticeRefreshExecutor() {
+        return boundedExecutor("notice-refresh-", 2, 4, 100);
+    }
+
+    // 팀플 일정 링크 생성용 - 팀원 수가 많은 일정의 링크를 백그라운드에서 생성
+    @Bean(name = "calendarFanoutExecutor")
+    public ThreadPoolTaskExecutor calendarFanoutExecutor() {
+        return boundedExecutor("calendar-fanout-", 2, 4, 500);
+    }
+
+    // 메일 발송용 - MailOutbox 워커 수만큼 스레드를 고정
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor(@Value("${mail.outbox.workers:2}") int workers) {
+        return boundedExecutor("mail-", workers, workers, 0);
+    }
+
+    // 파일 저장소(S3) 전송, 삭제용 - S3로 나가는 동시 요청 수를 제한
+    // 멀티파트 완료 작업이 같은 풀의 파트 전송을 기다리므로 큐 없이 사용 (대기 중인 파트가 큐에 묶이지 않도록)
+    @Bean(name = "storageExecutor")
+    public ThreadPoolTaskExecutor storageExecutor() {
+        return boundedExecutor("storage-", 4, 16, 0);
+    }
+
+    // == Private Methods ==
+
+    private ThreadPoolTaskExecutor boundedExecutor(String prefix, int coreSize, int maxSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 큐가 가득 차면 호출한 스레드에서 실행
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -1,6 +1,7 @@
 package com.muji_backend.kw_muji.common.config;
 
 import com.muji_backend.kw_muji.common.security.JwtAuthenticationFilter;
+import com.muji_backend.kw_muji.common.security.SecurityPaths;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -26,8 +27,6 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
-    private final String[] swaggerPath = {"/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/error"};
-    private final String[] permitPath = {"/", "/auth/**", "/mainpage/**", "/notices", "/survey", "/team"};
 
     @Bean // 이 메소드가 생성하는 객체를 스프링이 관리
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -40,8 +39,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .sessionManagement(sessionManagement -> sessionManagement
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers(permitPath).permitAll() // 인증 없이 접근 가능한 경로 설정
-                        .requestMatchers(swaggerPath).permitAll() // 스웨거 경로 설정
+                        .requestMatchers(SecurityPaths.PERMIT_PATHS).permitAll() // 인증 없이 접근 가능한 경로 설정
+                        .requestMatchers(SecurityPaths.SWAGGER_PATHS).permitAll() // 스웨거 경로 설정
                         .anyRequest().authenticated()) // 나머지 모든 요청은 인증 필요
                 .requiresChannel(channelConfigurer -> channelConfigurer
                         .requestMatchers(r -> r.getHeader("X-Forwarded-Proto") != null)
@@ -0,0 +1,50 @@
+package com.muji_backend.kw_muji.common.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 팀원 수가 많은 팀플 일정의 링크 생성 작업
+ * 일정 저장과 같은 트랜잭션에서 기록되고, 링크 생성이 끝나면 삭제됨
+ * 처리 중 서버가 종료되거나 실패해도 남아 있으므로 스케줄러가 다시 처리 (at-least-once)
+ */
+@Entity
+@Table(name = "calendarFanoutTask", indexes = {
+        @Index(name = "idx_calendar_fanout_task_next_attempt_at", columnList = "next_attempt_at")
+})
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarFanoutTaskEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userCalendarId;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist // entity가 영속화되기 직전에 실행
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        createdAt = now;
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now.plusMinutes(1); // 커밋 직후 처리가 우선이므로 스케줄러는 1분 뒤부터 재시도
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.muji_backend.kw_muji.common.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +21,11 @@ public class ChoiceEntity {
     @Column(nullable = false)
     private String choiceText;
 
+    // 선택 수 - 설문 제출 시 DB에서 직접 증가시키므로 엔티티 저장 시에는 갱신하지 않음
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long responseCount;
+
     // question : choice = 1 : N
     @ManyToOne(targetEntity = QuestionEntity.class)
     @JoinColumn(name = "questionId", nullable = false)
@@ -9,7 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "project")
+@Table(name = "project", indexes = {
+        @Index(name = "idx_project_on_going_created_at", columnList = "is_on_going, created_at"),
+        @Index(name = "idx_project_on_going_deadline_at", columnList = "is_on_going, deadline_at") // 마감 처리 스케줄러용
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -37,6 +40,9 @@ public class ProjectEntity {
     @Column
     private String image;
 
+    @Column
+    private String imageThumbnail; // 목록용 썸네일 키 (이전에 올린 이미지는 null)
+
     @Column(nullable = false)
     private boolean isOnGoing = true;
 
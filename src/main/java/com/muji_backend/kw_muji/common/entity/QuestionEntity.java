@@ -3,6 +3,7 @@ package com.muji_backend.kw_muji.common.entity;
 import com.muji_backend.kw_muji.common.entity.enums.QuestionType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +26,11 @@ public class QuestionEntity {
     @Column(nullable = false)
     private QuestionType questionType;
 
+    // 응답 수 - 설문 제출 시 DB에서 직접 증가시키므로 엔티티 저장 시에는 갱신하지 않음
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long responseCount;
+
     // survey : question = 1 : N
     @ManyToOne(targetEntity = SurveyEntity.class)
     @JoinColumn(name = "surveyId", nullable = false)
@@ -2,6 +2,7 @@ package com.muji_backend.kw_muji.common.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "survey")
+@Table(name = "survey", indexes = {
+        @Index(name = "idx_survey_created_at", columnList = "created_at"),
+        @Index(name = "idx_survey_ongoing_end_date", columnList = "is_ongoing, end_date") // 종료 처리 스케줄러용
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -35,6 +39,11 @@ public class SurveyEntity {
     @Column(nullable = false)
     private LocalDate endDate;
 
+    // 응답 수 - 설문 제출 시 DB에서 직접 증가시키므로 엔티티 저장 시에는 갱신하지 않음
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long responseCount;
+
     @PrePersist // entity가 영속화되기 직전에 실행
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
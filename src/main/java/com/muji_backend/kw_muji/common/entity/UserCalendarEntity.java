@@ -8,7 +8,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "userCalendar")
+@Table(name = "userCalendar", indexes = {
+        @Index(name = "idx_user_calendar_event_date", columnList = "event_date")
+})
 @Data
 @Builder
 @AllArgsConstructor
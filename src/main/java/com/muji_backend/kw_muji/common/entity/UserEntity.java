@@ -41,6 +41,12 @@ public class UserEntity {
     @Column
     private String image;
 
+    @Column
+    private String imageThumbnail; // 목록용 썸네일 키 (이전에 올린 이미지는 null)
+
+    @Column
+    private String calendarFeedNonce; // 캘린더 피드 토큰에 들어가는 값 (재발급 시 변경되어 이전 피드 주소가 무효화됨)
+
     // users : univCalendar = 1 : N
     @OneToMany(mappedBy = "users", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<UnivCalendarEntity> univCalendar = new ArrayList<>();
@@ -7,7 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "userEventLink")
+@Table(name = "userEventLink", indexes = {
+        @Index(name = "idx_user_event_link_user_project", columnList = "user_id, project_id")
+})
 @Data
 @Builder
 @AllArgsConstructor
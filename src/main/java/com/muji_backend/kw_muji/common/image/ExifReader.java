@@ -0,0 +1,148 @@
+package com.muji_backend.kw_muji.common.image;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG(APP1)과 PNG(eXIf)에 들어있는 EXIF에서 방향(Orientation, 0x0112) 값만 읽는 클래스
+ * ImageIO는 EXIF를 해석하지 않으므로, 휴대폰 사진처럼 방향 값으로 회전을 표시한 이미지를 바로 세우는 데 사용
+ */
+final class ExifReader {
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private ExifReader() {
+    }
+
+    /**
+     * 이미지의 EXIF를 읽는 메서드
+     *
+     * @param data 이미지 파일 내용
+     * @param png  PNG 여부 (아니면 JPEG)
+     * @return EXIF 존재 여부와 방향 값 (EXIF나 방향 값이 없으면 1)
+     */
+    static Exif read(final byte[] data, final boolean png) {
+        try {
+            return png ? readPng(data) : readJpeg(data);
+        } catch (IndexOutOfBoundsException e) {
+            return new Exif(true, 1); // 잘린 EXIF - 방향은 기본값으로 처리
+        }
+    }
+
+    // == Private Methods ==
+
+    // SOI 다음 세그먼트들을 차례로 건너뛰며 APP1(Exif)을 찾고, 이미지 데이터(SOS)가 시작되면 중단
+    private static Exif readJpeg(final byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8)
+            return Exif.NONE;
+
+        int i = 2;
+        while (i + 4 <= data.length && (data[i] & 0xFF) == 0xFF) {
+            final int marker = data[i + 1] & 0xFF;
+            if (marker == 0xFF) { // 채움 바이트
+                i++;
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9)
+                break;
+
+            final int length = u16(data, i + 2, false);
+            final int start = i + 4;
+            final int end = i + 2 + length;
+            if (length < 2 || end > data.length)
+                break;
+
+            if (marker == 0xE1 && startsWith(data, start, EXIF_HEADER))
+                return new Exif(true, orientation(data, start + EXIF_HEADER.length, end));
+            i = end;
+        }
+        return Exif.NONE;
+    }
+
+    // 청크(길이 4 + 종류 4 + 내용 + CRC 4)를 차례로 건너뛰며 eXIf를 찾음 (내용은 "Exif" 헤더 없는 TIFF)
+    private static Exif readPng(final byte[] data) {
+        if (!startsWith(data, 0, PNG_SIGNATURE))
+            return Exif.NONE;
+
+        long i = PNG_SIGNATURE.length;
+        while (i + 8 <= data.length) {
+            final long length = u32(data, (int) i, false);
+            final String type = new String(data, (int) i + 4, 4, StandardCharsets.US_ASCII);
+            final long end = i + 8 + length;
+            if (end > data.length)
+                break;
+
+            if (type.equals("eXIf"))
+                return new Exif(true, orientation(data, (int) i + 8, (int) end));
+            if (type.equals("IEND"))
+                break;
+            i = end + 4;
+        }
+        return Exif.NONE;
+    }
+
+    // TIFF 헤더(바이트 순서, 첫 IFD 위치) 다음 IFD0의 항목(12바이트씩)에서 방향 값을 찾음
+    private static int orientation(final byte[] data, final int tiff, final int end) {
+        if (tiff + 8 > end)
+            return 1;
+
+        final boolean little;
+        if (data[tiff] == 'I' && data[tiff + 1] == 'I')
+            little = true;
+        else if (data[tiff] == 'M' && data[tiff + 1] == 'M')
+            little = false;
+        else
+            return 1;
+
+        final long ifd = tiff + u32(data, tiff + 4, little);
+        if (ifd + 2 > end)
+            return 1;
+
+        final int count = u16(data, (int) ifd, little);
+        for (int k = 0; k < count; k++) {
+            final int entry = (int) ifd + 2 + k * 12;
+            if (entry + 12 > end)
+                break;
+
+            if (u16(data, entry, little) == ORIENTATION_TAG) {
+                final int value = u16(data, entry + 8, little); // SHORT 값은 값 필드의 앞 2바이트에 들어있음
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static boolean startsWith(final byte[] data, final int offset, final byte[] prefix) {
+        if (offset + prefix.length > data.length)
+            return false;
+
+        for (int k = 0; k < prefix.length; k++) {
+            if (data[offset + k] != prefix[k])
+                return false;
+        }
+        return true;
+    }
+
+    private static int u16(final byte[] data, final int offset, final boolean little) {
+        final int a = data[offset] & 0xFF;
+        final int b = data[offset + 1] & 0xFF;
+        return little ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static long u32(final byte[] data, final int offset, final boolean little) {
+        final long high = u16(data, little ? offset + 2 : offset, little);
+        final long low = u16(data, little ? offset : offset + 2, little);
+        return (high << 16) | low;
+    }
+
+    /**
+     * EXIF 읽기 결과
+     *
+     * @param present     EXIF 존재 여부 (위치 정보 등이 들어있을 수 있음)
+     * @param orientation 방향 값 (1: 그대로, 2~8: 뒤집기/회전 필요)
+     */
+    record Exif(boolean present, int orientation) {
+        static final Exif NONE = new Exif(false, 1);
+    }
+}
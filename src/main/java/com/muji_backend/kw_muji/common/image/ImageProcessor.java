@@ -0,0 +1,179 @@
+package com.muji_backend.kw_muji.common.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 업로드된 이미지(JPEG, PNG)를 한 번만 디코딩해서 압축된 원본과 목록용 썸네일을 만드는 클래스
+ * JPEG은 품질을 낮춰 다시 인코딩하고, PNG는 투명도를 유지하기 위해 PNG로 저장
+ * 다시 인코딩하면 메타데이터가 빠지므로 EXIF 방향 값은 디코딩 직후 픽셀에 반영
+ */
+@Component
+public class ImageProcessor {
+
+    @Value("${image.full.max-size:1600}")
+    private int fullMaxSize; // 원본 이미지의 긴 변 최대 길이(px)
+
+    @Value("${image.thumbnail.size:400}")
+    private int thumbnailSize; // 썸네일의 긴 변 길이(px)
+
+    @Value("${image.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${image.max-pixels:40000000}")
+    private long maxPixels; // 디코딩 전에 거부할 최대 픽셀 수 (압축 폭탄 방지)
+
+    /**
+     * 이미지를 변환하는 메서드
+     *
+     * @param in          이미지 내용 (업로드된 파일 또는 저장소에서 내려받은 파일)
+     * @param contentType image/jpeg 또는 image/png
+     * @return 압축된 원본과 썸네일
+     */
+    public ProcessedImage process(final InputStream in, final String contentType) throws IOException {
+        final boolean png = "image/png".equals(contentType);
+        final byte[] original = in.readAllBytes();
+        final ExifReader.Exif exif = ExifReader.read(original, png);
+        final BufferedImage source = orient(decode(new ByteArrayInputStream(original)), exif.orientation(), png);
+
+        final byte[] full = encodeSmaller(source, fullMaxSize, png, original, exif.present());
+        final byte[] thumbnail = encodeSmaller(source, thumbnailSize, png, original, exif.present());
+
+        return new ProcessedImage(full, thumbnail, contentType);
+    }
+
+    // == Private Methods ==
+
+    // 헤더로 크기를 먼저 확인한 뒤 디코딩
+    private BufferedImage decode(final InputStream in) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            final Iterator<ImageReader> readers = stream != null ? ImageIO.getImageReaders(stream) : null;
+            if (readers == null || !readers.hasNext())
+                throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels)
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 축소하지 않았는데 다시 인코딩해도 작아지지 않으면(팔레트 PNG 등) 원본 사용
+    // EXIF가 있는 원본은 위치 정보가 남고 방향 값도 다시 적용해야 하므로 항상 다시 인코딩한 값 사용
+    private byte[] encodeSmaller(final BufferedImage source, final int maxSize, final boolean png,
+                                 final byte[] original, final boolean hasExif) throws IOException {
+        final byte[] encoded = encode(resize(source, maxSize, png), png);
+        final boolean resized = Math.max(source.getWidth(), source.getHeight()) > maxSize;
+        return !hasExif && !resized && encoded.length >= original.length ? original : encoded;
+    }
+
+    // EXIF 방향 값(2~8)에 맞게 뒤집거나 회전 (5~8은 가로, 세로가 바뀜)
+    private BufferedImage orient(final BufferedImage source, final int orientation, final boolean png) {
+        if (orientation <= 1 || orientation > 8)
+            return source;
+
+        final int w = source.getWidth();
+        final int h = source.getHeight();
+        final AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 반대 대각선 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도 회전 (8)
+        };
+        final boolean swap = orientation >= 5;
+
+        final BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 긴 변이 maxSize를 넘으면 비율을 유지해서 축소 (절반씩 단계적으로 줄여 화질 유지)
+    private BufferedImage resize(final BufferedImage source, final int maxSize, final boolean png) {
+        final int type = png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        final int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        final int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, type, png);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private BufferedImage draw(final BufferedImage source, final int width, final int height, final int type, final boolean png) {
+        final BufferedImage target = new BufferedImage(width, height, type);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            if (!png) { // JPEG은 투명도가 없으므로 흰 배경 위에 그림
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(final BufferedImage image, final boolean png) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        if (png) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            final ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
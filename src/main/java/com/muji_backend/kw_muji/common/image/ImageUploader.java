@@ -0,0 +1,71 @@
+package com.muji_backend.kw_muji.common.image;
+
+import com.muji_backend.kw_muji.common.storage.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 프로젝트, 프로필 이미지를 변환해서 저장소에 올리는 클래스
+ * 썸네일은 원본 키의 확장자 앞에 "_thumb"을 붙인 키로 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUploader {
+    private final ImageProcessor imageProcessor;
+    private final ObjectStorage objectStorage;
+
+    /**
+     * 이미지를 변환해서 원본, 썸네일을 저장하는 메서드
+     *
+     * @param key         원본 이미지 키 (확장자 포함)
+     * @param file        업로드된 이미지 파일
+     * @param contentType image/jpeg 또는 image/png
+     * @return 저장된 원본, 썸네일 키
+     */
+    public StoredImage upload(final String key, final MultipartFile file, final String contentType) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return store(key, imageProcessor.process(in, contentType));
+        }
+    }
+
+    /**
+     * 저장소에 있는 이미지를 변환해서 같은 키에 덮어쓰고 썸네일을 저장하는 메서드
+     * 클라이언트가 직접 올린 이미지는 클라이언트가 쓸 수 없는 키로 복사한 뒤 호출 (UploadSessionService)
+     *
+     * @param key         변환할 이미지 키
+     * @param contentType image/jpeg 또는 image/png
+     * @return 저장된 원본, 썸네일 키
+     */
+    public StoredImage processUploaded(final String key, final String contentType) throws IOException {
+        return store(key, imageProcessor.process(new ByteArrayInputStream(objectStorage.download(key)), contentType));
+    }
+
+    /**
+     * 교체되거나 삭제된 이미지를 커밋된 뒤에 삭제하는 메서드
+     */
+    public void deleteAfterCommit(final String key, final String thumbnailKey) {
+        objectStorage.deleteAfterCommit(key);
+        objectStorage.deleteAfterCommit(thumbnailKey);
+    }
+
+    // == Private Methods ==
+
+    private StoredImage store(final String key, final ProcessedImage image) throws IOException {
+        final String thumbnailKey = thumbnailKeyOf(key);
+
+        objectStorage.upload(key, image.full(), image.contentType());
+        objectStorage.upload(thumbnailKey, image.thumbnail(), image.contentType());
+
+        return new StoredImage(key, thumbnailKey);
+    }
+
+    private String thumbnailKeyOf(final String key) {
+        final int dot = key.lastIndexOf('.');
+        return dot < 0 ? key + "_thumb" : key.substring(0, dot) + "_thumb" + key.substring(dot);
+    }
+}
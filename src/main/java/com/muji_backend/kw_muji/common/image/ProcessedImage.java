@@ -0,0 +1,11 @@
+package com.muji_backend.kw_muji.common.image;
+
+/**
+ * ImageProcessor의 변환 결과
+ *
+ * @param full        압축된 원본 이미지
+ * @param thumbnail   목록용 썸네일
+ * @param contentType 저장할 Content-Type (입력과 같은 형식)
+ */
+public record ProcessedImage(byte[] full, byte[] thumbnail, String contentType) {
+}
@@ -0,0 +1,10 @@
+package com.muji_backend.kw_muji.common.image;
+
+/**
+ * 저장소에 올라간 이미지의 키
+ *
+ * @param key          상세 화면용 이미지 키
+ * @param thumbnailKey 목록용 썸네일 키
+ */
+public record StoredImage(String key, String thumbnailKey) {
+}
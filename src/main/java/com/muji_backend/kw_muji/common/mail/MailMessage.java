@@ -0,0 +1,7 @@
+package com.muji_backend.kw_muji.common.mail;
+
+/**
+ * 발송할 메일 한 통 (받는 사람, 제목, HTML 본문)
+ */
+public record MailMessage(String to, String subject, String content) {
+}
@@ -0,0 +1,286 @@
+package com.muji_backend.kw_muji.common.mail;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열
+ * 요청 스레드는 메일을 대기열에 넣기만 하고, 워커가 SMTP 연결 하나로 여러 통을 묶어 발송
+ * 발송에 실패한 메일은 간격을 늘려가며 재시도하고, 같은 사람에게는 일정 간격 이상 띄워서 발송
+ */
+@Slf4j
+@Component
+public class MailOutbox implements SmartLifecycle {
+
+    private static final String SENDER_NAME = "광운 대학 생활 도우미";
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final JavaMailSender mailSender;
+    private final Executor mailExecutor;
+    private final String from;
+    private final int capacity;
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long perRecipientIntervalMillis;
+
+    private final DelayQueue<Envelope> queue = new DelayQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Cache<String, Long> lastSentAt;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+
+    public MailOutbox(JavaMailSender mailSender,
+                      @Qualifier("mailExecutor") Executor mailExecutor,
+                      MeterRegistry meterRegistry,
+                      @Value("${spring.mail.username}") String from,
+                      @Value("${mail.outbox.capacity:1000}") int capacity,
+                      @Value("${mail.outbox.workers:2}") int workers,
+                      @Value("${mail.outbox.batch-size:20}") int batchSize,
+                      @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                      @Value("${mail.outbox.per-recipient-interval-ms:3000}") long perRecipientIntervalMillis) {
+        this.mailSender = mailSender;
+        this.mailExecutor = mailExecutor;
+        this.from = from;
+        this.capacity = capacity;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.perRecipientIntervalMillis = perRecipientIntervalMillis;
+        this.lastSentAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(1, perRecipientIntervalMillis)))
+                .build();
+
+        this.sentCounter = Counter.builder("mail.outbox.messages").tag("result", "sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.outbox.messages").tag("result", "retry").register(meterRegistry);
+        this.droppedCounter = Counter.builder("mail.outbox.messages").tag("result", "dropped").register(meterRegistry);
+        meterRegistry.gauge("mail.outbox.pending", pending);
+    }
+
+    /**
+     * 메일을 발송 대기열에 넣는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 대기열에 넣음 (롤백되면 발송하지 않음)
+     * 대기열이 가득 찼으면 바로 예외를 던져 트랜잭션이 커밋되지 않도록 하고,
+     * 그 사이 다른 요청으로 가득 차 커밋 후에 넣지 못한 메일은 예외 없이 버리고 기록만 남김
+     *
+     * @param message 발송할 메일
+     * @throws IllegalStateException 대기열이 가득 찬 경우
+     */
+    public void enqueue(MailMessage message) {
+        if (pending.get() >= capacity) {
+            droppedCounter.increment();
+            throw new IllegalStateException("메일 발송 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    if (!offer(message)) {
+                        log.warn("메일 발송 대기열이 가득 차 커밋 후 메일을 버림 - to: {}", message.to());
+                    }
+                }
+            });
+            return;
+        }
+
+        if (!offer(message)) {
+            throw new IllegalStateException("메일 발송 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            mailExecutor.execute(this::drain);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // == Private Methods ==
+
+    // 대기열이 가득 찼으면 넣지 않고 false 반환 (버린 메일로 집계)
+    private boolean offer(MailMessage message) {
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            droppedCounter.increment();
+            return false;
+        }
+        queue.put(new Envelope(message, 0, System.currentTimeMillis()));
+        return true;
+    }
+
+    // 워커 - 발송 가능한 메일을 최대 batchSize개씩 모아 한 번에 발송
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Envelope first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+
+                List<Envelope> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(throttle(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("메일 발송 워커 오류", e);
+            }
+        }
+    }
+
+    // 같은 사람에게 최근에 보낸 메일이 있으면 간격이 지난 뒤로 미룸
+    private List<Envelope> throttle(List<Envelope> batch) {
+        List<Envelope> ready = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Envelope envelope : batch) {
+            String recipient = envelope.message().to().toLowerCase();
+            Long last = lastSentAt.asMap().putIfAbsent(recipient, now);
+            if (last == null) {
+                ready.add(envelope);
+            } else {
+                queue.put(envelope.delayUntil(last + perRecipientIntervalMillis));
+            }
+        }
+        return ready;
+    }
+
+    private void sendBatch(List<Envelope> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Envelope> envelopes = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        for (Envelope envelope : batch) {
+            try {
+                messages.add(toMimeMessage(envelope.message()));
+                envelopes.add(envelope);
+            } catch (IllegalStateException e) {
+                drop(envelope, e); // 주소 형식 오류 등은 재시도해도 실패
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new)); // 묶음 전체를 하나의 SMTP 연결로 발송
+            envelopes.forEach(this::complete);
+        } catch (MailSendException e) {
+            // 실패한 메일만 재시도 (연결 실패처럼 어떤 메일이 실패했는지 모르면 전체 재시도)
+            Map<Object, Exception> failed = e.getFailedMessages();
+            for (int i = 0; i < envelopes.size(); i++) {
+                if (failed.isEmpty() || failed.containsKey(messages.get(i))) {
+                    retry(envelopes.get(i), e);
+                } else {
+                    complete(envelopes.get(i));
+                }
+            }
+        } catch (MailException e) {
+            envelopes.forEach(envelope -> retry(envelope, e));
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailMessage mail) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "utf-8");
+            helper.setFrom(from, SENDER_NAME);
+            helper.setTo(mail.to());
+            helper.setSubject(mail.subject());
+            helper.setText(mail.content(), true);
+            return message;
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("메일 생성에 실패했습니다. to: " + mail.to(), e);
+        }
+    }
+
+    private void complete(Envelope envelope) {
+        pending.decrementAndGet();
+        sentCounter.increment();
+    }
+
+    // 1초, 2초, 4초, ... 간격으로 재시도하고 maxAttempts번 실패하면 포기
+    private void retry(Envelope envelope, Exception cause) {
+        int attempts = envelope.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            drop(envelope, cause);
+            return;
+        }
+
+        retryCounter.increment();
+        lastSentAt.invalidate(envelope.message().to().toLowerCase());
+        log.warn("메일 발송 재시도 예약 - to: {}, attempts: {}, message: {}", envelope.message().to(), attempts, cause.getMessage());
+        queue.put(new Envelope(envelope.message(), attempts, System.currentTimeMillis() + (1000L << (attempts - 1))));
+    }
+
+    private void drop(Envelope envelope, Exception cause) {
+        pending.decrementAndGet();
+        droppedCounter.increment();
+        log.error("메일 발송 실패 - to: {}, attempts: {}, message: {}", envelope.message().to(), envelope.attempts() + 1, cause.getMessage());
+    }
+
+    private record Envelope(MailMessage message, int attempts, long readyAt) implements Delayed {
+        Envelope delayUntil(long time) {
+            return new Envelope(message, attempts, Math.max(readyAt, time));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAt, ((Envelope) other).readyAt);
+        }
+    }
+}
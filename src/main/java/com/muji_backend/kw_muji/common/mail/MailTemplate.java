@@ -0,0 +1,98 @@
+package com.muji_backend.kw_muji.common.mail;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 본문 템플릿
+ * {{name}} 형태의 자리표시자를 가진 문자열을 한 번만 파싱해 두고, 렌더링 시에는 조각을 이어 붙이기만 함
+ * 자리표시자 값은 HTML 이스케이프하여 삽입
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_POOLED_CAPACITY = 16 * 1024;
+
+    // 렌더링용 버퍼를 스레드마다 재사용
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final List<Segment> segments;
+    private final int literalLength;
+
+    private MailTemplate(List<Segment> segments) {
+        this.segments = segments;
+        this.literalLength = segments.stream()
+                .filter(segment -> !segment.placeholder())
+                .mapToInt(segment -> segment.text().length())
+                .sum();
+    }
+
+    /**
+     * 템플릿 문자열을 파싱하는 메서드 (클래스 로딩 시 상수로 한 번만 호출)
+     *
+     * @param source 템플릿 문자열
+     * @return 파싱된 템플릿
+     */
+    public static MailTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                segments.add(new Segment(source.substring(position), false));
+                break;
+            }
+
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 자리표시자가 있습니다. position: " + open);
+            }
+
+            if (open > position) {
+                segments.add(new Segment(source.substring(position, open), false));
+            }
+            segments.add(new Segment(source.substring(open + OPEN.length(), close).trim(), true));
+            position = close + CLOSE.length();
+        }
+        return new MailTemplate(List.copyOf(segments));
+    }
+
+    /**
+     * 자리표시자에 값을 채워 본문을 만드는 메서드
+     *
+     * @param values 자리표시자 이름과 값
+     * @return 완성된 본문
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + 64);
+
+        for (Segment segment : segments) {
+            if (!segment.placeholder()) {
+                buffer.append(segment.text());
+                continue;
+            }
+
+            Object value = values.get(segment.text());
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 값이 없습니다. name: " + segment.text());
+            }
+            buffer.append(HtmlUtils.htmlEscape(value.toString()));
+        }
+
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_POOLED_CAPACITY) { // 너무 커진 버퍼는 계속 들고 있지 않음
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    private record Segment(String text, boolean placeholder) {
+    }
+}
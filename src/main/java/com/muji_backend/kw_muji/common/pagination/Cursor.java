@@ -0,0 +1,62 @@
+package com.muji_backend.kw_muji.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 조회한 항목의 위치 (createdAt, id)
+ * 클라이언트에는 Base64 문자열로 전달되며, 팀플 목록은 모집 여부(onGoing)도 함께 저장
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final Boolean onGoing;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(null, createdAt, id);
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환하는 메서드
+     *
+     * @return Base64(URL-safe)로 인코딩한 커서 문자열
+     */
+    public String encode() {
+        String raw = (onGoing != null ? onGoing.toString() : "") + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석하는 메서드
+     *
+     * @param value 커서 문자열 (비어 있으면 첫 페이지)
+     * @return 커서 객체, 첫 페이지 요청이면 null
+     */
+    public static Cursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            Boolean onGoing = parts[0].isEmpty() ? null : Boolean.valueOf(parts[0]);
+            return new Cursor(onGoing, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.muji_backend.kw_muji.common.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 마감된 설문조사, 팀 프로젝트의 진행 상태를 일괄 변경하는 스케줄 작업 공통 처리
+ * 한 번에 chunkSize개씩 UPDATE하고 (각각 별도 트랜잭션), 변경된 행이 chunkSize보다 적으면 종료
+ * 대상이 아무리 많아도 엔티티를 불러오지 않으므로 메모리 사용량이 일정하고, 락도 짧게 유지됨
+ */
+@Slf4j
+@Component
+public class StatusSweeper {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduling.sweep.chunk-size:1000}")
+    private int chunkSize;
+
+    public StatusSweeper(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 변경할 행이 없을 때까지 나눠서 UPDATE하는 메서드
+     *
+     * @param job         작업 이름 (메트릭 태그, 로그에 사용)
+     * @param updateChunk 최대 행 수를 받아 UPDATE하고 변경된 행 수를 반환하는 함수
+     * @return 변경된 전체 행 수
+     */
+    public long sweep(String job, IntUnaryOperator updateChunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long total = 0;
+        int chunks = 0;
+        int updated;
+
+        try {
+            do {
+                updated = updateChunk.applyAsInt(chunkSize);
+                total += updated;
+                chunks++;
+            } while (updated >= chunkSize);
+
+            log.info("{} 상태 업데이트 완료 - {}건, {}회", job, total, chunks);
+            return total;
+        } catch (RuntimeException e) {
+            log.error("{} 상태 업데이트 실패 - {}건 처리 후 중단, message: {}", job, total, e.getMessage());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("scheduling.sweep.duration").tag("job", job).register(meterRegistry));
+            Counter.builder("scheduling.sweep.rows").tag("job", job).register(meterRegistry).increment(total);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.muji_backend.kw_muji.common.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL FULLTEXT(ngram) 인덱스를 이용한 검색 지원
+ * 인덱스는 scripts/db/fulltext_ngram_index.sql로 미리 생성하고 (불용어 없이),
+ * 서버 시작 시 설문조사(title, description), 팀플(name) 인덱스가 있는지만 확인해서 검색어를 BOOLEAN MODE 쿼리로 변환
+ * 인덱스가 없거나 검색어가 너무 짧으면 호출하는 쪽에서 LIKE 검색을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextSearch implements ApplicationRunner {
+
+    public static final String SURVEY_INDEX = "ft_survey_title_description";
+    public static final String PROJECT_INDEX = "ft_project_name";
+
+    // MySQL ngram_token_size 기본값 - 이보다 짧은 단어는 인덱스에 존재하지 않음
+    private static final int MIN_TOKEN_SIZE = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available = false;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            available = indexExists("survey", SURVEY_INDEX) && indexExists("project", PROJECT_INDEX);
+            if (!available) {
+                log.warn("FULLTEXT 인덱스 없음 - LIKE 검색 사용 (scripts/db/fulltext_ngram_index.sql 적용 필요)");
+            }
+        } catch (DataAccessException e) {
+            log.warn("FULLTEXT 인덱스 확인 실패 - LIKE 검색 사용: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 검색어를 FULLTEXT BOOLEAN MODE 쿼리로 변환하는 메서드
+     * 공백으로 구분한 단어를 모두 포함하는 글만 찾도록 각 단어를 +"단어" 형태로 변환
+     *
+     * @param search 검색어
+     * @return BOOLEAN MODE 쿼리, FULLTEXT 검색을 사용할 수 없으면 null
+     */
+    public String toQuery(String search) {
+        if (!available || search == null || search.isBlank()) {
+            return null;
+        }
+
+        String[] terms = search.replace("\"", " ").trim().split("\\s+");
+        if (terms.length == 0 || terms[0].isEmpty() || Arrays.stream(terms).anyMatch(term -> term.length() < MIN_TOKEN_SIZE)) {
+            return null;
+        }
+
+        return Arrays.stream(terms)
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
+    }
+
+    // == Private Methods ==
+
+    private boolean indexExists(String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        return count != null && count > 0;
+    }
+}
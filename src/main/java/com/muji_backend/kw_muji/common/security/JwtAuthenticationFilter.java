@@ -20,67 +20,69 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String TOKEN_ERROR_MESSAGE = "false(토큰 에러 발생)";
+    private static final String TOKEN_EXPIRED_MESSAGE = "false(토큰 재발급을 받으세요)";
+
     private final TokenProvider tokenProvider;
 
+    // 사용자 정보가 필요 없는 경로는 필터를 실행하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return SecurityPaths.isAnonymous(request);
+    }
+
     // token을 사용하여 사용자 인증 및 등록
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 로그인이 선택인 경로는 @AuthenticationPrincipal 등으로 사용자 정보가 처음 필요할 때 토큰을 파싱
+        // 토큰이 있는데 유효하지 않으면 파싱 시점에 InvalidTokenException이 발생하고, 여기서 401로 응답
+        if (SecurityPaths.isOptionalAuth(request)) {
+            SecurityContextHolder.setDeferredContext(new LazyTokenContext(request));
+            try {
+                filterChain.doFilter(request, response);
+            } catch (ServletException | RuntimeException e) {
+                InvalidTokenException invalidToken = findInvalidToken(e);
+                if (invalidToken == null) {
+                    throw e;
+                }
+                if (response.isCommitted()) {
+                    log.warn("Invalid token after response committed - uri: {}", request.getRequestURI());
+                    return;
+                }
+                response.reset();
+                sendUnauthorized(response, invalidToken.getMessage());
+            }
+            return;
+        }
+
         try {
-            log.info("Filter is running...");
             String token = parseBearerToken(request);
 
-            log.info("doFilter token value : {}", token);
-
             if(token != null && !token.equalsIgnoreCase("null")){
                 Claims claims = tokenProvider.validateAndGetClaims(token);
 
-                log.info("claims : {}", claims);
-                log.info("expire Time: {}", claims.getExpiration());
-
                 if(Objects.equals(claims.getIssuer(), "Token error")){
-                    log.info("Token error from filter");
-
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.setContentType("application/json");
-                    response.setCharacterEncoding("UTF-8");
-                    response.getWriter().write("false(토큰 에러 발생)");
-
+                    log.debug("Token error from filter");
+                    sendUnauthorized(response, TOKEN_ERROR_MESSAGE);
                     return;
                 }else if(Objects.equals(claims.getIssuer(), "Expired")){
                     // 엑세스 토큰이 유효시간이 지난 경우
-                    log.info("Token is expired");
-                    log.info("req url: {}", request.getContextPath());
-
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    response.setContentType("application/json");
-                    response.setCharacterEncoding("UTF-8");
-                    response.getWriter().write("false(토큰 재발급을 받으세요)");
-
+                    log.debug("Token is expired - uri: {}", request.getRequestURI());
+                    sendUnauthorized(response, TOKEN_EXPIRED_MESSAGE);
                     return;
                 }else {
                     // 토큰의 유효기간이 안지난 경우
-                    log.info("insert new user");
-
-                    UserEntity user = new UserEntity();
-                    user.setId(Long.valueOf(claims.getSubject())); // 아이디 할당
-                    user.setEmail(claims.get("email", String.class)); // 이메일 할당
-
                     // 인증 완료 -> SecurityContextHolder 에 등록 되어야 인증된 사용자!
-                    AbstractAuthenticationToken authentication
-                            = new UsernamePasswordAuthenticationToken(user, null, AuthorityUtils.NO_AUTHORITIES); // 사용자 정보
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request)); // 사용자 인증 세부 정보 설정
-
-                    SecurityContext securityContext = SecurityContextHolder.createEmptyContext(); /// 빈 SecurityContext 생성
-                    securityContext.setAuthentication(authentication); // context에 인증 정보 설정
-                    SecurityContextHolder.setContext(securityContext); // SecurityContextHolder 저장
+                    SecurityContextHolder.setContext(createSecurityContext(claims, request)); // SecurityContextHolder 저장
                 }
             }else{
-                log.warn("Token is null");
+                log.debug("Token is null");
             }
         }catch (Exception e){
             logger.error("Could not set user authentication in security context", e);
@@ -90,6 +92,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private SecurityContext createSecurityContext(Claims claims, HttpServletRequest request) {
+        UserEntity user = new UserEntity();
+        user.setId(Long.valueOf(claims.getSubject())); // 아이디 할당
+        user.setEmail(claims.get("email", String.class)); // 이메일 할당
+
+        AbstractAuthenticationToken authentication
+                = new UsernamePasswordAuthenticationToken(user, null, AuthorityUtils.NO_AUTHORITIES); // 사용자 정보
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request)); // 사용자 인증 세부 정보 설정
+
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext(); /// 빈 SecurityContext 생성
+        securityContext.setAuthentication(authentication); // context에 인증 정보 설정
+        return securityContext;
+    }
+
+    private void sendUnauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(message);
+    }
+
+    // 컨트롤러 등에서 발생한 예외는 ServletException으로 감싸져 올라오므로 원인을 따라가며 확인
+    private InvalidTokenException findInvalidToken(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InvalidTokenException invalidToken) {
+                return invalidToken;
+            }
+        }
+        return null;
+    }
+
     private String parseBearerToken(HttpServletRequest request){
         // 요청의 헤더에서 Bearer 토큰을 가져옴
         String bearerToken = request.getHeader("Authorization");
@@ -100,4 +133,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return null;
     }
+
+    // 로그인 선택 경로에서 토큰이 있지만 유효하지 않을 때 발생 (message: 응답 본문)
+    private static class InvalidTokenException extends RuntimeException {
+        InvalidTokenException(String message) {
+            super(message);
+        }
+    }
+
+    // 처음 조회될 때 한 번만 토큰을 파싱하는 SecurityContext
+    // 토큰이 없으면 로그인하지 않은 사용자로 처리하고, 토큰이 유효하지 않으면 InvalidTokenException 발생 (401 응답)
+    // 사용자 정보를 조회하지 않는 요청은 토큰을 파싱하지 않으므로 로그인하지 않은 요청과 같이 처리됨
+    private class LazyTokenContext implements Supplier<SecurityContext> {
+        private final HttpServletRequest request;
+        private SecurityContext context;
+
+        LazyTokenContext(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public SecurityContext get() {
+            if (context == null) {
+                context = resolve();
+            }
+            return context;
+        }
+
+        private SecurityContext resolve() {
+            String token = parseBearerToken(request);
+            if (token == null || token.equalsIgnoreCase("null")) {
+                return SecurityContextHolder.createEmptyContext();
+            }
+
+            try {
+                Claims claims = tokenProvider.validateAndGetClaims(token);
+                if (Objects.equals(claims.getIssuer(), "Token error")) {
+                    log.debug("Token error on optional auth path - uri: {}", request.getRequestURI());
+                    throw new InvalidTokenException(TOKEN_ERROR_MESSAGE);
+                }
+                if (Objects.equals(claims.getIssuer(), "Expired")) {
+                    log.debug("Token is expired on optional auth path - uri: {}", request.getRequestURI());
+                    throw new InvalidTokenException(TOKEN_EXPIRED_MESSAGE);
+                }
+                return createSecurityContext(claims, request);
+            } catch (InvalidTokenException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("Could not set user authentication in security context", e);
+                return SecurityContextHolder.createEmptyContext();
+            }
+        }
+    }
 }
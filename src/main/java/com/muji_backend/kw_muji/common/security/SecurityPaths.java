@@ -0,0 +1,64 @@
+package com.muji_backend.kw_muji.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 인증 관련 경로 모음 - WebConfig(인가 설정)와 JwtAuthenticationFilter(토큰 처리 여부)가 함께 사용
+ */
+public final class SecurityPaths {
+
+    // 스웨거 경로
+    public static final String[] SWAGGER_PATHS = {"/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/error"};
+
+    // 사용자 정보가 필요 없는 경로 - 토큰을 파싱하지 않음
+    public static final String[] ANONYMOUS_PATHS = {"/", "/auth/**", "/notices", "/survey", "/team", "/calendar/ics/**"};
+
+    // 로그인하지 않아도 되지만 로그인한 경우 사용자 정보를 사용하는 경로 - 사용자 정보가 처음 필요할 때 토큰을 파싱
+    public static final String[] OPTIONAL_AUTH_PATHS = {"/mainpage/**"};
+
+    // 인증 없이 접근 가능한 경로
+    public static final String[] PERMIT_PATHS = Stream.concat(Arrays.stream(ANONYMOUS_PATHS), Arrays.stream(OPTIONAL_AUTH_PATHS))
+            .toArray(String[]::new);
+
+    private static final List<PathPattern> ANONYMOUS_PATTERNS = compile(ANONYMOUS_PATHS, SWAGGER_PATHS);
+    private static final List<PathPattern> OPTIONAL_AUTH_PATTERNS = compile(OPTIONAL_AUTH_PATHS);
+
+    private SecurityPaths() {
+    }
+
+    public static boolean isAnonymous(HttpServletRequest request) {
+        return matches(ANONYMOUS_PATTERNS, request);
+    }
+
+    public static boolean isOptionalAuth(HttpServletRequest request) {
+        return matches(OPTIONAL_AUTH_PATTERNS, request);
+    }
+
+    // == Private Methods ==
+
+    // 경로 패턴은 클래스 로딩 시 한 번만 파싱
+    private static List<PathPattern> compile(String[]... paths) {
+        return Arrays.stream(paths)
+                .flatMap(Arrays::stream)
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
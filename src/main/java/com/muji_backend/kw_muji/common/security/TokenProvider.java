@@ -1,5 +1,8 @@
 package com.muji_backend.kw_muji.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.muji_backend.kw_muji.common.config.jwt.JwtProperties;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import io.jsonwebtoken.Claims;
@@ -10,23 +13,37 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class TokenProvider {
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
     private final JwtProperties jwtProperties;
 
+    // 서명 검증이 끝난 토큰의 claims 캐시 (key: 토큰의 SHA-256) - 토큰 만료 시각이 지나면 제거
+    // 캐시된 claims는 여러 요청이 공유하므로 읽기 전용으로만 사용
+    private final Cache<String, Claims> verifiedClaims = Caffeine.newBuilder()
+            .maximumSize(MAX_VERIFIED_TOKENS)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
     public String createAccessToken(Optional<UserEntity> user){
-        log.info("creating access token");
+        log.debug("creating access token");
 
 
         Date expiryDate = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
-        log.info("set access token expiryDate: {}", expiryDate);
+        log.debug("set access token expiryDate: {}", expiryDate);
 
         return Jwts.builder()
                 .signWith(SignatureAlgorithm.HS512,jwtProperties.getSecretKey())
@@ -57,20 +74,28 @@ public class TokenProvider {
     }
 
     // 토큰 검증 및 토큰에 포함된 정보를 추출하여 인증 및 권한 부여
+    // 같은 토큰이 다시 오면 서명 검증 없이 캐시된 claims 반환
     public Claims validateAndGetClaims(String token) {
-        log.info("extract");
+        String key = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
         try{
             Claims claims = Jwts.parser()
                     .setSigningKey(jwtProperties.getSecretKey())
                     .parseClaimsJws(token)
                     .getBody();
 
-            log.info("Token expired date : {}", claims.getExpiration());
-            log.info("date now: {}", Date.from(Instant.now()));
+            log.debug("Token expired date : {}", claims.getExpiration());
 
+            if (claims.getExpiration() != null) { // 만료 시각이 없는 토큰은 캐시하지 않음
+                verifiedClaims.put(key, claims);
+            }
             return claims;
         }catch (ExpiredJwtException e){
-            log.warn("ExpiredJwtException!!");
+            log.debug("ExpiredJwtException!!");
             Claims claims = Jwts.claims().setIssuer("Expired");
 
             return claims;
@@ -81,4 +106,34 @@ public class TokenProvider {
             return claims;
         }
     }
+
+    // == Private Methods ==
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목은 토큰의 만료 시각까지만 유지
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
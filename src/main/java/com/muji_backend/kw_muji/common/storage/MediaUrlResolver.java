@@ -0,0 +1,66 @@
+package com.muji_backend.kw_muji.common.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 저장소 키(이미지, 포트폴리오)를 응답에 담을 URL로 바꾸는 클래스
+ * 같은 키는 매번 인코딩하지 않도록 키별 URL을 캐시 (최대 개수 제한)
+ * - 기본: 버킷 URL + 인코딩한 키 (media.cdn-url을 설정하면 CDN 주소 사용)
+ * - media.signed-urls=true: 만료 시간이 있는 서명 URL을 발급하고, 유효시간의 절반이 지나면 새로 발급
+ */
+@Component
+public class MediaUrlResolver {
+
+    private final ObjectStorage objectStorage;
+    private final String baseUrl;
+    private final boolean signedUrls;
+    private final Duration signedUrlExpiry;
+    private final Cache<String, String> urls;
+
+    public MediaUrlResolver(ObjectStorage objectStorage,
+                            @Value("${cloud.aws.s3.url}") String bucketUrl,
+                            @Value("${media.cdn-url:}") String cdnUrl,
+                            @Value("${media.signed-urls:false}") boolean signedUrls,
+                            @Value("${media.signed-url-expiry-seconds:3600}") long signedUrlExpirySeconds,
+                            @Value("${media.url-cache.max-entries:20000}") long maxEntries) {
+        this.objectStorage = objectStorage;
+        this.baseUrl = cdnUrl.isBlank() ? bucketUrl : cdnUrl;
+        this.signedUrls = signedUrls;
+        this.signedUrlExpiry = Duration.ofSeconds(signedUrlExpirySeconds);
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxEntries);
+        if (signedUrls) { // 응답에 담긴 URL이 유효시간의 절반 이상 남아 있도록 캐시 기간을 제한
+            builder.expireAfterWrite(signedUrlExpiry.dividedBy(2));
+        }
+        this.urls = builder.build();
+    }
+
+    /**
+     * 저장소 키에 해당하는 URL을 반환하는 메서드
+     *
+     * @param key 저장소 키
+     * @return URL (키가 없으면 빈 문자열)
+     */
+    public String resolve(String key) {
+        if (key == null || key.isBlank()) {
+            return "";
+        }
+        return urls.get(key, this::create);
+    }
+
+    // == Private Methods ==
+
+    private String create(String key) {
+        if (signedUrls) {
+            return objectStorage.presignDownload(key, signedUrlExpiry).toString();
+        }
+        return baseUrl + URLEncoder.encode(key, StandardCharsets.UTF_8);
+    }
+}
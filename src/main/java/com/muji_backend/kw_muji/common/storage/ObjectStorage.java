@@ -0,0 +1,95 @@
+package com.muji_backend.kw_muji.common.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 파일(이미지, 포트폴리오) 저장소
+ * 운영에서는 S3ObjectStorage를 사용하고, 테스트에서는 메모리 구현으로 대체
+ */
+public interface ObjectStorage {
+
+    /**
+     * 파일을 저장하는 메서드 (저장이 끝날 때까지 대기)
+     *
+     * @param key         저장할 키
+     * @param file        업로드된 파일
+     * @param contentType 저장할 Content-Type
+     */
+    void upload(String key, MultipartFile file, String contentType) throws IOException;
+
+    /**
+     * 메모리에서 만든 파일(변환된 이미지)을 저장하는 메서드 (저장이 끝날 때까지 대기)
+     *
+     * @param key         저장할 키
+     * @param content     파일 내용
+     * @param contentType 저장할 Content-Type
+     */
+    void upload(String key, byte[] content, String contentType) throws IOException;
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 직접 올릴 수 있는 PUT URL을 발급하는 메서드
+     * 업로드 요청의 Content-Type은 발급할 때 지정한 값과 같아야 함
+     *
+     * @param key         저장할 키
+     * @param contentType 업로드할 Content-Type
+     * @param expiry      URL 유효시간
+     * @return 서명된 PUT URL
+     */
+    URL presignUpload(String key, String contentType, Duration expiry);
+
+    /**
+     * 비공개 버킷의 파일을 일정 시간 동안 내려받을 수 있는 GET URL을 발급하는 메서드
+     *
+     * @param key    파일 키
+     * @param expiry URL 유효시간
+     * @return 서명된 GET URL
+     */
+    URL presignDownload(String key, Duration expiry);
+
+    /**
+     * 저장된 파일의 크기와 Content-Type을 조회하는 메서드
+     *
+     * @param key 조회할 키
+     * @return 파일 정보 (없으면 empty)
+     */
+    Optional<StoredObject> find(String key);
+
+    /**
+     * 저장된 파일을 내려받는 메서드 (이미지 변환처럼 크기가 제한된 파일에만 사용)
+     *
+     * @param key 내려받을 키
+     * @return 파일 내용
+     */
+    byte[] download(String key) throws IOException;
+
+    /**
+     * 저장소 안에서 파일을 복사하는 메서드 (서버를 거치지 않음, Content-Type 유지)
+     *
+     * @param sourceKey 원본 키
+     * @param targetKey 복사할 키
+     */
+    void copy(String sourceKey, String targetKey) throws IOException;
+
+    /**
+     * prefix 아래에서 cutoff 이전에 저장된 파일을 모두 삭제하는 메서드 (완료되지 않은 업로드 정리용, 바로 삭제)
+     *
+     * @param prefix 삭제할 키의 prefix
+     * @param cutoff 이 시각 이전에 저장된 파일만 삭제
+     * @return 삭제한 파일 수
+     */
+    int deleteOlderThan(String prefix, Instant cutoff);
+
+    /**
+     * 더 이상 사용하지 않는 파일을 삭제하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에, 아니면 바로 백그라운드에서 삭제 (롤백되면 삭제하지 않음)
+     *
+     * @param key 삭제할 키 (null이거나 비어 있으면 무시)
+     */
+    void deleteAfterCommit(String key);
+}
@@ -0,0 +1,220 @@
+package com.muji_backend.kw_muji.common.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 저장소
+ * 업로드 파일을 임시 파일로 옮긴 뒤 TransferManager로 전송 - 큰 파일(포트폴리오 PDF)은 멀티파트로 나눠 병렬 전송
+ * 전송과 삭제는 storageExecutor에서 실행되어 S3 동시 요청 수가 제한됨
+ */
+@Slf4j
+@Component
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final int MAX_DELETE_KEYS = 1000; // DeleteObjects 한 번에 보낼 수 있는 최대 키 수
+
+    private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor storageExecutor;
+    private final TransferManager transferManager;
+    private final String bucket;
+
+    public S3ObjectStorage(AmazonS3 amazonS3,
+                           @Qualifier("storageExecutor") ThreadPoolTaskExecutor storageExecutor,
+                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                           @Value("${storage.multipart-threshold-bytes:8388608}") long multipartThreshold) {
+        this.amazonS3 = amazonS3;
+        this.storageExecutor = storageExecutor;
+        this.bucket = bucket;
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(storageExecutor::getThreadPoolExecutor)
+                .withShutDownThreadPools(false) // 스레드 풀은 스프링이 관리
+                .withMultipartUploadThreshold(multipartThreshold)
+                .build();
+    }
+
+    @Override
+    public void upload(String key, MultipartFile file, String contentType) throws IOException {
+        // 요청 본문을 임시 파일로 옮김 - 파일 기반 전송이어야 파트를 병렬로 보낼 수 있음
+        Path spool = Files.createTempFile("upload-", ".tmp");
+        try {
+            file.transferTo(spool);
+            File spoolFile = spool.toFile();
+
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(spoolFile.length());
+            metadata.setContentType(contentType);
+
+            transferManager.upload(new PutObjectRequest(bucket, key, spoolFile).withMetadata(metadata))
+                    .waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("파일 업로드가 중단되었습니다.", e);
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    @Override
+    public void upload(String key, byte[] content, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        try {
+            transferManager.upload(bucket, key, new ByteArrayInputStream(content), metadata).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("파일 업로드가 중단되었습니다.", e);
+        }
+    }
+
+    @Override
+    public URL presignUpload(String key, String contentType, Duration expiry) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withContentType(contentType) // 서명에 포함되어 다른 Content-Type으로는 올릴 수 없음
+                .withExpiration(new Date(System.currentTimeMillis() + expiry.toMillis()));
+        return amazonS3.generatePresignedUrl(request);
+    }
+
+    @Override
+    public URL presignDownload(String key, Duration expiry) {
+        return amazonS3.generatePresignedUrl(bucket, key, new Date(System.currentTimeMillis() + expiry.toMillis()), HttpMethod.GET);
+    }
+
+    @Override
+    public Optional<StoredObject> find(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+            return Optional.of(new StoredObject(key, metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] download(String key) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucket, key);
+             InputStream in = object.getObjectContent()) {
+            return in.readAllBytes();
+        }
+    }
+
+    // 5GB 이하 파일은 CopyObject 한 번으로 복사 (업로드 파일은 크기가 제한되어 있음)
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        try {
+            amazonS3.copyObject(bucket, sourceKey, bucket, targetKey);
+        } catch (SdkClientException e) {
+            throw new IOException("파일 복사에 실패했습니다. key: " + sourceKey, e);
+        }
+    }
+
+    // 목록을 페이지 단위로 조회하면서 오래된 파일을 모아 최대 1000개씩 삭제
+    @Override
+    public int deleteOlderThan(String prefix, Instant cutoff) {
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket).withPrefix(prefix);
+        List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>();
+        int deleted = 0;
+
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                if (summary.getLastModified().toInstant().isBefore(cutoff)) {
+                    keys.add(new DeleteObjectsRequest.KeyVersion(summary.getKey()));
+                }
+                if (keys.size() == MAX_DELETE_KEYS) {
+                    deleted += deleteAll(keys);
+                }
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+
+        return deleted + deleteAll(keys);
+    }
+
+    @Override
+    public void deleteAfterCommit(String key) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    storageExecutor.execute(() -> delete(key));
+                }
+            });
+            return;
+        }
+        storageExecutor.execute(() -> delete(key));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(false); // S3 클라이언트는 다른 곳에서도 사용하므로 닫지 않음
+    }
+
+    // == Private Methods ==
+
+    private int deleteAll(List<DeleteObjectsRequest.KeyVersion> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        int count = amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(new ArrayList<>(keys)))
+                .getDeletedObjects().size();
+        keys.clear();
+        return count;
+    }
+
+    // S3 삭제는 없는 키에도 성공하므로 존재 여부를 따로 확인하지 않음
+    private void delete(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (RuntimeException e) {
+            log.warn("파일 삭제 실패 - key: {}, message: {}", key, e.getMessage());
+        }
+    }
+}
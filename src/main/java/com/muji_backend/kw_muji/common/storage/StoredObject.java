@@ -0,0 +1,11 @@
+package com.muji_backend.kw_muji.common.storage;
+
+/**
+ * 저장소에 있는 파일 정보
+ *
+ * @param key         파일 키
+ * @param size        파일 크기(byte)
+ * @param contentType 저장된 Content-Type
+ */
+public record StoredObject(String key, long size, String contentType) {
+}
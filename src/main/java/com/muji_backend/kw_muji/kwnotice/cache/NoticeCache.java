@@ -0,0 +1,210 @@
+package com.muji_backend.kw_muji.kwnotice.cache;
+
+import com.muji_backend.kw_muji.kwnotice.dto.response.NoticeResponse;
+import com.muji_backend.kw_muji.kwnotice.repository.NoticeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 학교 홈페이지 공지사항 캐시
+ * (page, searchVal, srCategoryId) 단위로 공지사항을 저장하고, 스케줄러가 만료 전에 미리 갱신
+ * 만료된 항목은 기존 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+ * 같은 키에 대한 동시 요청은 하나의 외부 요청을 공유
+ */
+@Slf4j
+@Component
+public class NoticeCache {
+
+    private final NoticeRepository noticeRepository;
+    private final Executor refreshExecutor;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<NoticeResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Timer refreshSuccessTimer;
+    private final Timer refreshFailureTimer;
+
+    @Value("${kw.notice.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${kw.notice.cache.refresh-ahead-seconds:60}")
+    private long refreshAheadSeconds;
+
+    @Value("${kw.notice.cache.max-stale-seconds:3600}")
+    private long maxStaleSeconds;
+
+    @Value("${kw.notice.cache.idle-seconds:1800}")
+    private long idleSeconds;
+
+    @Value("${kw.notice.cache.max-entries:500}")
+    private int maxEntries;
+
+    public NoticeCache(NoticeRepository noticeRepository,
+                       @Qualifier("noticeRefreshExecutor") Executor refreshExecutor,
+                       MeterRegistry meterRegistry) {
+        this.noticeRepository = noticeRepository;
+        this.refreshExecutor = refreshExecutor;
+
+        this.hitCounter = Counter.builder("notice.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.staleCounter = Counter.builder("notice.cache.requests").tag("result", "stale").register(meterRegistry);
+        this.missCounter = Counter.builder("notice.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.refreshSuccessTimer = Timer.builder("notice.cache.refresh").tag("outcome", "success").register(meterRegistry);
+        this.refreshFailureTimer = Timer.builder("notice.cache.refresh").tag("outcome", "failure").register(meterRegistry);
+        meterRegistry.gaugeMapSize("notice.cache.size", Tags.empty(), entries);
+    }
+
+    /**
+     * 캐시된 공지사항을 조회하는 메서드
+     * 캐시에 없으면 외부 요청이 끝날 때까지 기다리고, 만료된 경우 기존 값을 반환하면서 갱신을 예약
+     *
+     * @param page         페이지 번호
+     * @param searchVal    검색어
+     * @param srCategoryId 카테고리 ID
+     * @return 공지사항 목록과 최대 페이지 번호를 포함한 NoticeResponse 객체
+     */
+    public NoticeResponse get(int page, String searchVal, String srCategoryId) {
+        Key key = Key.of(page, searchVal, srCategoryId);
+        Entry entry = entries.get(key);
+        long now = System.currentTimeMillis();
+
+        if (entry != null && entry.ageMillis(now) <= maxStaleSeconds * 1000) {
+            entry.lastAccessAt = now;
+
+            if (entry.ageMillis(now) < ttlSeconds * 1000) {
+                hitCounter.increment();
+            } else {
+                staleCounter.increment();
+                load(key); // 기존 값을 반환하고 백그라운드에서 갱신
+            }
+            return entry.value;
+        }
+
+        missCounter.increment();
+        return await(load(key));
+    }
+
+    /**
+     * 만료가 가까운 항목을 미리 갱신하고, 오랫동안 조회되지 않은 항목을 제거하는 메서드
+     * 최근 TTL 안에 조회된 항목만 미리 갱신 - 한 번만 조회된 검색어는 다시 조회될 때 갱신 (stale-while-revalidate)
+     * NoticeScheduledTask에서 주기적으로 호출
+     */
+    public void refreshExpiring() {
+        long now = System.currentTimeMillis();
+        long refreshAfterMillis = Math.max(0, ttlSeconds - refreshAheadSeconds) * 1000;
+
+        entries.forEach((key, entry) -> {
+            if (now - entry.lastAccessAt > idleSeconds * 1000) {
+                entries.remove(key, entry); // 조회되지 않는 검색어는 갱신하지 않고 제거
+            } else if (entry.ageMillis(now) >= refreshAfterMillis && now - entry.lastAccessAt <= ttlSeconds * 1000) {
+                load(key);
+            }
+        });
+
+        evictOverflow();
+    }
+
+    // == Private Methods ==
+
+    // 같은 키에 대한 외부 요청이 이미 진행 중이면 해당 요청을 공유
+    private CompletableFuture<NoticeResponse> load(Key key) {
+        CompletableFuture<NoticeResponse> created = new CompletableFuture<>();
+        CompletableFuture<NoticeResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                created.complete(fetch(key));
+            } catch (Throwable e) {
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    private NoticeResponse fetch(Key key) {
+        long start = System.nanoTime();
+        try {
+            NoticeResponse response = noticeRepository.getKwHomeNotices(key.page(), key.searchVal(), key.srCategoryId());
+            refreshSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            long now = System.currentTimeMillis();
+            Entry previous = entries.get(key);
+            entries.put(key, new Entry(response, now, previous != null ? previous.lastAccessAt : now));
+            return response;
+        } catch (RuntimeException e) {
+            refreshFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.warn("공지사항 캐시 갱신 실패 - key: {}, message: {}", key, e.getMessage());
+            throw e;
+        }
+    }
+
+    private NoticeResponse await(CompletableFuture<NoticeResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 최대 개수를 넘으면 가장 오래 조회되지 않은 항목부터 제거
+    private void evictOverflow() {
+        int overflow = entries.size() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccessAt))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+    }
+
+    private record Key(int page, String searchVal, String srCategoryId) {
+        // null과 빈 문자열은 같은 요청으로 취급
+        static Key of(int page, String searchVal, String srCategoryId) {
+            return new Key(page, searchVal != null ? searchVal : "", srCategoryId != null ? srCategoryId : "");
+        }
+    }
+
+    private static class Entry {
+        private final NoticeResponse value;
+        private final long loadedAt;
+        private volatile long lastAccessAt;
+
+        Entry(NoticeResponse value, long loadedAt, long lastAccessAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.lastAccessAt = lastAccessAt;
+        }
+
+        long ageMillis(long now) {
+            return now - loadedAt;
+        }
+    }
+}
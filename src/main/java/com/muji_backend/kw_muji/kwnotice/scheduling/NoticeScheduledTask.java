@@ -0,0 +1,22 @@
+package com.muji_backend.kw_muji.kwnotice.scheduling;
+
+import com.muji_backend.kw_muji.kwnotice.cache.NoticeCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NoticeScheduledTask {
+
+    private final NoticeCache noticeCache;
+
+    /**
+     * 만료가 가까운 공지사항 캐시를 미리 갱신
+     * 기본 30초 간격으로 실행
+     */
+    @Scheduled(fixedDelayString = "${kw.notice.cache.refresh-interval-ms:30000}")
+    public void refreshNoticeCache() {
+        noticeCache.refreshExpiring();
+    }
+}
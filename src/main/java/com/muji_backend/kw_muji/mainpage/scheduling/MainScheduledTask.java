@@ -0,0 +1,22 @@
+package com.muji_backend.kw_muji.mainpage.scheduling;
+
+import com.muji_backend.kw_muji.mainpage.service.MainSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MainScheduledTask {
+
+    private final MainSnapshotService mainSnapshotService;
+
+    /**
+     * 메인 페이지 스냅샷을 갱신
+     * 서버 시작 시 한 번 실행한 뒤 기본 60초 간격으로 실행
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${mainpage.snapshot.refresh-interval-ms:60000}")
+    public void refreshMainSnapshot() {
+        mainSnapshotService.refresh();
+    }
+}
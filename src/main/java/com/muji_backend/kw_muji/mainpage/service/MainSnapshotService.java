@@ -0,0 +1,137 @@
+package com.muji_backend.kw_muji.mainpage.service;
+
+import com.muji_backend.kw_muji.kwnotice.dto.response.NoticeResponse;
+import com.muji_backend.kw_muji.kwnotice.service.NoticeService;
+import com.muji_backend.kw_muji.mainpage.dto.response.MainResponseDto;
+import com.muji_backend.kw_muji.survey.dto.response.SurveyResponseDto;
+import com.muji_backend.kw_muji.survey.service.SurveyService;
+import com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO;
+import com.muji_backend.kw_muji.team.service.TeamService;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메인 페이지에서 사용자와 무관한 영역(공지사항, 설문조사, 팀플 모집)을 미리 만들어 두는 서비스
+ * 스케줄러가 주기적으로 새 스냅샷을 만들어 한 번에 교체하고, 요청은 현재 스냅샷을 읽기만 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MainSnapshotService {
+
+    private static final int NOTICE_LIMIT = 6;
+    private static final int SURVEY_LIMIT = 4;
+    private static final int PROJECT_LIMIT = 4;
+
+    private final NoticeService noticeService;
+    private final SurveyService surveyService;
+    private final TeamService teamService;
+
+    private final AtomicReference<MainSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷을 반환하는 메서드
+     * 서버 시작 직후 아직 스냅샷이 없는 경우에만 요청 스레드에서 생성
+     *
+     * @return 메인 페이지 스냅샷
+     */
+    public MainSnapshot getSnapshot() {
+        MainSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = buildSnapshot();
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 새 스냅샷을 만들어 교체하는 메서드
+     * 생성에 실패하면 기존 스냅샷을 그대로 유지
+     */
+    public void refresh() {
+        try {
+            snapshot.set(buildSnapshot());
+        } catch (RuntimeException e) {
+            log.warn("메인 페이지 스냅샷 갱신 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    // == Private Methods ==
+
+    private MainSnapshot buildSnapshot() {
+        // 공지사항 (전체, 일반, 학사, 학생, 장학)
+        MainResponseDto.Notices notices = new MainResponseDto.Notices(
+                fetchNoticeItems(""),
+                fetchNoticeItems("0"),
+                fetchNoticeItems("1"),
+                fetchNoticeItems("2"),
+                fetchNoticeItems("4")
+        );
+
+        // 설문조사 (최대 4개)
+        SurveyResponseDto surveyResponse = surveyService.getSurveys("", 0);
+        List<SurveyResponseDto.SurveyItemDto> surveys = surveyResponse != null
+                ? surveyResponse.getSurveys().stream().limit(SURVEY_LIMIT).toList()
+                : List.of();
+
+        // 팀플 모집 (최대 4개)
+        Map<String, Object> result = teamService.getOnGoingProjects(0, "");
+        List<ProjectListResponseDTO> projects = result.get("projects") != null
+                ? ((List<ProjectListResponseDTO>) result.get("projects")).stream().limit(PROJECT_LIMIT).toList()
+                : List.of();
+
+        return new MainSnapshot(notices, surveys, projects, LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+    }
+
+    private List<MainResponseDto.NoticeItem> fetchNoticeItems(String srCategoryId) {
+        return mapToNoticeItems(noticeService.getKwHomeNotices(1, "", srCategoryId).getNotices());
+    }
+
+    // NoticeResponse.Notice 리스트를 MainResponseDto.NoticeItem 리스트로 변환하는 매핑 함수
+    private List<MainResponseDto.NoticeItem> mapToNoticeItems(List<NoticeResponse.Notice> notices) {
+        return notices.stream()
+                .limit(NOTICE_LIMIT)
+                .map(notice -> new MainResponseDto.NoticeItem(
+                        notice.getTitle(),
+                        notice.getLink(),
+                        notice.getUpdatedDate()
+                ))
+                .toList();
+    }
+
+    /**
+     * 사용자와 무관한 메인 페이지 데이터 (생성 후 변경되지 않음)
+     */
+    @Getter
+    public static class MainSnapshot {
+        private final MainResponseDto.Notices notices;
+        private final List<SurveyResponseDto.SurveyItemDto> surveys;
+        private final List<ProjectListResponseDTO> projects;
+        private final LocalDateTime builtAt;
+
+        private MainSnapshot(MainResponseDto.Notices notices,
+                             List<SurveyResponseDto.SurveyItemDto> surveys,
+                             List<ProjectListResponseDTO> projects,
+                             LocalDateTime builtAt) {
+            this.notices = notices;
+            this.surveys = List.copyOf(surveys);
+            this.projects = List.copyOf(projects);
+            this.builtAt = builtAt;
+        }
+    }
+}
@@ -2,19 +2,21 @@ package com.muji_backend.kw_muji.mypage.controller;
 
 import com.muji_backend.kw_muji.common.entity.ResumeEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.image.StoredImage;
 import com.muji_backend.kw_muji.common.security.TokenProvider;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
 import com.muji_backend.kw_muji.mypage.dto.request.PasswordRequestDTO;
 import com.muji_backend.kw_muji.mypage.dto.request.UpdateRequestDTO;
 import com.muji_backend.kw_muji.mypage.dto.response.MyProjectsResponseDTO;
 import com.muji_backend.kw_muji.mypage.dto.response.MyResponseDTO;
 import com.muji_backend.kw_muji.mypage.dto.response.TokenDTO;
 import com.muji_backend.kw_muji.mypage.dto.response.UserInfoResponseDTO;
+import com.muji_backend.kw_muji.mypage.service.MypageDashboardService;
 import com.muji_backend.kw_muji.mypage.service.MypageService;
 import com.muji_backend.kw_muji.mypage.service.ResumeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -24,8 +26,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,14 +36,13 @@ import java.util.Optional;
 @RequestMapping("/mypage")
 public class MypageController {
     private final MypageService mypageService;
+    private final MypageDashboardService mypageDashboardService;
     private final ResumeService resumeService;
     private final TokenProvider tokenProvider;
+    private final MediaUrlResolver mediaUrlResolver;
 
     private final PasswordEncoder pwdEncoder = new BCryptPasswordEncoder();
 
-    @Value("${cloud.aws.s3.url}")
-    private String bucketURL;
-
     @PostMapping("/checkPw")
     public ResponseEntity<Map<String, Object>> enterUpdate(@AuthenticationPrincipal UserEntity userInfo, @RequestBody PasswordRequestDTO dto) {
         try {
@@ -64,7 +63,7 @@ public class MypageController {
             final UserEntity user = mypageService.originalUser(userInfo.getEmail());
 
             final UserInfoResponseDTO resDTO = UserInfoResponseDTO.builder()
-                    .image(user.getImage() != null ? bucketURL + URLEncoder.encode(user.getImage(), "UTF-8") : "")
+                    .image(mediaUrlResolver.resolve(user.getImage()))
                     .email(user.getEmail())
                     .name(user.getName())
                     .stuNum(user.getStuNum())
@@ -72,7 +71,7 @@ public class MypageController {
                     .build();
 
             return ResponseEntity.ok().body(Map.of("code", 200, "data", resDTO));
-        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("code", 400, "data", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(500).body(Map.of("code", 500, "data", "회원정보 로딩 오류. 잠시 후 다시 시도해주세요."));
@@ -100,14 +99,13 @@ public class MypageController {
                 userInfo.setPassword(pwdEncoder.encode(dto.getPassword()));
             }
 
-            final boolean isDeleteImage = Boolean.parseBoolean(dto.getIsDeleteImage());
-
-            if (file != null && file.length > 0 && !file[0].isEmpty())
-                userInfo.setImage(mypageService.uploadUserImage(file, dto.getName(), userInfo.getEmail()));
-            else if (isDeleteImage) // 프로필 사진 삭제를 요청한 경우
-                mypageService.deleteUserImage(userInfo.getEmail());
+            if (file != null && file.length > 0 && !file[0].isEmpty()) {
+                final StoredImage image = mypageService.uploadUserImage(file, dto.getName());
+                userInfo.setImage(image.key());
+                userInfo.setImageThumbnail(image.thumbnailKey());
+            }
 
-            final UserEntity updateUser = mypageService.updateUser(userInfo, dto);
+            final UserEntity updateUser = mypageService.updateUser(userInfo, dto); // 프로필 사진 삭제를 요청한 경우 image는 null로 변경
 
             final TokenDTO resDTO = TokenDTO.builder()
                     .accessToken(tokenProvider.createAccessToken(Optional.ofNullable(updateUser)))
@@ -179,10 +177,10 @@ public class MypageController {
     public ResponseEntity<Map<String, Object>> main(@AuthenticationPrincipal UserEntity userInfo) {
         try {
             // 내 정보, my 팀플, my 생성 팀플, my 설문 조회, 포트폴리오, 지원한 팀플
-            MyResponseDTO response = mypageService.getMyPageInfo(userInfo);
+            MyResponseDTO response = mypageDashboardService.getMyPageInfo(userInfo);
 
             return ResponseEntity.ok().body(Map.of("code", 200, "data", response));
-        } catch (IllegalArgumentException | UnsupportedEncodingException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("code", 400, "data", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(500).body(Map.of("code", 500, "data", "마이페이지 로딩 오류. 잠시 후 다시 시도해주세요."));
@@ -0,0 +1,45 @@
+package com.muji_backend.kw_muji.mypage.repository;
+
+import com.muji_backend.kw_muji.common.entity.ParticipationEntity;
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// 마이페이지 메인 조회 전용 - 화면에 필요한 컬럼만 조회
+public interface MypageQueryRepository extends Repository<ParticipationEntity, Long> {
+
+    // 주어진 역할들의 참여 정보를 한 번에 조회, 마감일 기준 최신순
+    @Query("SELECT p.role AS role, pr.id AS projectId, pr.name AS name, pr.deadlineAt AS deadlineAt, " +
+            "pr.isOnGoing AS onGoing, pr.start AS start " +
+            "FROM ParticipationEntity p JOIN p.project pr " +
+            "WHERE p.users = :user AND p.role IN :roles " +
+            "ORDER BY pr.deadlineAt DESC")
+    List<ParticipationView> findByUserAndRoleIn(@Param("user") UserEntity user, @Param("roles") Collection<ProjectRole> roles);
+
+    // 프로젝트별 역할 인원 수
+    @Query("SELECT p.project.id AS projectId, COUNT(p) AS count " +
+            "FROM ParticipationEntity p " +
+            "WHERE p.project.id IN :projectIds AND p.role = :role " +
+            "GROUP BY p.project.id")
+    List<ProjectCount> countByProjectIdInAndRole(@Param("projectIds") List<Long> projectIds, @Param("role") ProjectRole role);
+
+    interface ParticipationView {
+        ProjectRole getRole();
+        Long getProjectId();
+        String getName();
+        LocalDateTime getDeadlineAt();
+        boolean isOnGoing();
+        boolean isStart();
+    }
+
+    interface ProjectCount {
+        Long getProjectId();
+        long getCount();
+    }
+}
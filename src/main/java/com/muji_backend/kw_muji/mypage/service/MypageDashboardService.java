@@ -0,0 +1,156 @@
+package com.muji_backend.kw_muji.mypage.service;
+
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
+import com.muji_backend.kw_muji.mypage.dto.response.MyResponseDTO;
+import com.muji_backend.kw_muji.mypage.repository.MypageQueryRepository;
+import com.muji_backend.kw_muji.mypage.repository.MypageRepository;
+import com.muji_backend.kw_muji.mypage.repository.ResumeRepository;
+import com.muji_backend.kw_muji.survey.repository.SurveyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 마이페이지 메인 조회 서비스
+ * 내 정보, 참여 정보, 설문조사, 포트폴리오를 하나의 읽기 전용 트랜잭션(커넥션 1개)에서 차례로 조회
+ * 참여 정보는 역할과 관계없이 한 번에 조회한 뒤 메모리에서 역할별로 나누고 최신 4개로 자름
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MypageDashboardService {
+
+    private static final int LIMIT = 4;
+
+    private final MypageRepository mypageRepo;
+    private final MypageQueryRepository mypageQueryRepo;
+    private final SurveyRepository surveyRepository;
+    private final ResumeRepository resumeRepo;
+    private final MediaUrlResolver mediaUrlResolver;
+
+    /**
+     * 마이페이지 메인에 표시될 정보를 조회
+     * 1. 참여 중인 팀 프로젝트의 최신 4개 목록 (MEMBER 또는 CREATOR이며 시작된 프로젝트)
+     * 2. 사용자가 생성한 프로젝트 중 모집 중인 최신 4개 목록 (CREATOR인 프로젝트)
+     * 3. 사용자가 작성한 설문조사 중 가장 최근의 4개 목록
+     * 4. 포트폴리오, 지원한 팀플
+     *
+     * @param user 사용자 엔티티
+     * @return MyResponseDTO
+     */
+    @Transactional(readOnly = true)
+    public MyResponseDTO getMyPageInfo(UserEntity user) {
+        MyResponseDTO response = getMyParticipations(user);
+        response.setProfile(getMyProfile(user));
+        response.setSurveys(getMySurveys(user));
+        response.setResumes(getMyResumes(user));
+        return response;
+    }
+
+    // == Private Methods ==
+
+    // 내 정보를 불러오는 메서드
+    private MyResponseDTO.MyProfile getMyProfile(UserEntity user) {
+        UserEntity userInfo = mypageRepo.findByEmail(user.getEmail());
+
+        return MyResponseDTO.MyProfile.builder()
+                .userId(userInfo.getId())
+                .userImage(mediaUrlResolver.resolve(userInfo.getImage()))
+                .username(userInfo.getName())
+                .build();
+    }
+
+    // 최근 설문조사 4개만 조회하는 메서드
+    private List<MyResponseDTO.MySurvey> getMySurveys(UserEntity user) {
+        return surveyRepository.findTop4ByUsersOrderByEndDateDesc(user).stream()
+                .map(survey -> MyResponseDTO.MySurvey.builder()
+                        .surveyId(survey.getId())
+                        .title(survey.getTitle())
+                        .endDate(survey.getEndDate())
+                        .isOngoing(survey.isOngoing())
+                        .build())
+                .toList();
+    }
+
+    // 포트폴리오 조회 메소드
+    private List<MyResponseDTO.Resume> getMyResumes(UserEntity user) {
+        return resumeRepo.findAllByUsers(user).stream()
+                .map(resume -> MyResponseDTO.Resume.builder()
+                        .resumeId(resume.getId())
+                        .name(resume.getName())
+                        .createdAt(resume.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    // my 팀플, my 모집 팀플, 지원한 팀플
+    private MyResponseDTO getMyParticipations(UserEntity user) {
+        // 세 목록에 필요한 참여 정보를 한 번에 조회 (마감일 기준 최신순)
+        List<MypageQueryRepository.ParticipationView> participations = mypageQueryRepo.findByUserAndRoleIn(user,
+                List.of(ProjectRole.MEMBER, ProjectRole.CREATOR, ProjectRole.APPLICANT));
+
+        List<String> projects = new ArrayList<>();
+        List<MyResponseDTO.MyCreatedProject> createdProjects = new ArrayList<>();
+        List<MypageQueryRepository.ParticipationView> applications = new ArrayList<>();
+
+        for (MypageQueryRepository.ParticipationView participation : participations) {
+            // my 팀플 - MEMBER인 프로젝트 & CREATOR이며 start가 true인 프로젝트, 최신 4개
+            if (projects.size() < LIMIT && (participation.getRole() == ProjectRole.MEMBER
+                    || (participation.getRole() == ProjectRole.CREATOR && participation.isStart()))) {
+                projects.add(participation.getName());
+            }
+
+            // my 모집 팀플 - CREATOR인 프로젝트, 최신 4개
+            if (createdProjects.size() < LIMIT && participation.getRole() == ProjectRole.CREATOR) {
+                createdProjects.add(MyResponseDTO.MyCreatedProject.builder()
+                        .name(participation.getName())
+                        .deadlineAt(participation.getDeadlineAt())
+                        .isOngoing(participation.isOnGoing())
+                        .build());
+            }
+
+            // 지원한 팀플 - 전체 목록
+            if (participation.getRole() == ProjectRole.APPLICANT) {
+                applications.add(participation);
+            }
+        }
+
+        // 지원자 수는 GROUP BY 한 번으로 조회
+        Map<Long, Long> applicantCounts = countApplicants(applications);
+        List<MyResponseDTO.applicationProject> applicationProjects = applications.stream()
+                .map(project -> MyResponseDTO.applicationProject.builder()
+                        .name(project.getName())
+                        .applicantsNum(applicantCounts.getOrDefault(project.getProjectId(), 0L).intValue())
+                        .deadlineAt(project.getDeadlineAt())
+                        .build())
+                .toList();
+
+        return MyResponseDTO.builder()
+                .projects(projects)
+                .createdProjects(createdProjects)
+                .applicationProjects(applicationProjects)
+                .build();
+    }
+
+    private Map<Long, Long> countApplicants(List<MypageQueryRepository.ParticipationView> applications) {
+        if (applications.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> projectIds = applications.stream()
+                .map(MypageQueryRepository.ParticipationView::getProjectId)
+                .distinct()
+                .toList();
+
+        return mypageQueryRepo.countByProjectIdInAndRole(projectIds, ProjectRole.APPLICANT).stream()
+                .collect(Collectors.toMap(MypageQueryRepository.ProjectCount::getProjectId, MypageQueryRepository.ProjectCount::getCount));
+    }
+}
@@ -1,9 +1,8 @@
 package com.muji_backend.kw_muji.mypage.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.muji_backend.kw_muji.common.entity.ResumeEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.storage.ObjectStorage;
 import com.muji_backend.kw_muji.mypage.repository.ResumeRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,10 +21,7 @@ import java.util.Objects;
 @Service
 public class ResumeService {
     private final ResumeRepository resumeRepo;
-    private final AmazonS3 amazonS3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final ObjectStorage objectStorage;
 
     @Value("${cloud.aws.s3.folder.folderName3}")
     private String resumeBucketFolder;
@@ -48,12 +44,8 @@ public class ResumeService {
         // S3 Key 구성
         final String S3Key = resumeBucketFolder + fileName[0] + "\\" + userName + "\\" + dateFormat.format(time) + ".pdf";
 
-        final ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(files[0].getSize());
-        metadata.setContentType("application/pdf");
-
-        // 저장
-        amazonS3.putObject(bucket, S3Key, files[0].getInputStream(), metadata);
+        // 저장 (큰 파일은 멀티파트로 나눠 전송)
+        objectStorage.upload(S3Key, files[0], "application/pdf");
         resume.setName(fileName[0]);
 
         return S3Key;
@@ -63,10 +55,22 @@ public class ResumeService {
         resumeRepo.save(resume);
     }
 
+    // 클라이언트가 저장소에 직접 올린 포트폴리오를 등록 (UploadSessionService에서 파일 확인 후 호출)
+    public void registerUploadedResume(final UserEntity user, final String fileName, final String key) {
+        if(!checkResumeCount(user))
+            throw new IllegalArgumentException("포트폴리오는 3개까지만 등록 가능");
+
+        final ResumeEntity resume = new ResumeEntity();
+        resume.setUsers(user);
+        resume.setName(fileName.toLowerCase().endsWith(".pdf") ? fileName.substring(0, fileName.length() - 4) : fileName);
+        resume.setResumePath(key);
+
+        resumeRepo.save(resume);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 삭제
     public void deleteResumeFile(final ResumeEntity resume) {
-        final String formalS3Key = resume.getResumePath();
-        if(amazonS3.doesObjectExist(bucket, formalS3Key))
-            amazonS3.deleteObject(bucket, formalS3Key);
+        objectStorage.deleteAfterCommit(resume.getResumePath());
     }
 
     public ResumeEntity getResume(final Long resumeId, final UserEntity user) {
@@ -78,8 +82,8 @@ public class ResumeService {
 
     @Transactional
     public void deleteResume(final ResumeEntity resume) {
-        deleteResumeFile(resume);
         resumeRepo.delete(resume);
+        deleteResumeFile(resume);
     }
 
     public boolean checkResumeCount(final UserEntity user) {
@@ -3,8 +3,13 @@ package com.muji_backend.kw_muji.survey.controller;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.survey.dto.response.MySurveyResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.MySurveyResultResponseDto;
+import com.muji_backend.kw_muji.survey.dto.response.SurveyResponsePageDto;
 import com.muji_backend.kw_muji.survey.service.MySurveyService;
+import com.muji_backend.kw_muji.survey.service.SurveyExportService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -12,12 +17,14 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/mysurvey")
 public class MySurveyController {
 
     private final MySurveyService mySurveyService;
+    private final SurveyExportService surveyExportService;
 
     @GetMapping
     public ResponseEntity<?> getMySurveys(@AuthenticationPrincipal UserEntity userInfo) {
@@ -60,10 +67,11 @@ public class MySurveyController {
      * 설문조사 결과 조회
      */
     @GetMapping("/result/{surveyId}")
-    public ResponseEntity<?> getSurveyResult(@PathVariable("surveyId") Long surveyId) {
+    public ResponseEntity<?> getSurveyResult(@AuthenticationPrincipal UserEntity userInfo,
+                                             @PathVariable("surveyId") Long surveyId) {
         try {
-            // 설문조사 기본 정보와 질문을 가져오는 부분은 SurveyService의 getSurveyDetail 메서드 사용
-            MySurveyResultResponseDto response = mySurveyService.getSurveyResult(surveyId);
+            // 설문조사 기본 정보와 질문별 집계 결과
+            MySurveyResultResponseDto response = mySurveyService.getSurveyResult(surveyId, userInfo);
             return ResponseEntity.ok().body(Map.of("code", 200, "data", response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
@@ -71,4 +79,55 @@ public class MySurveyController {
             return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
         }
     }
+
+    /**
+     * 설문조사 개별 응답 조회 (페이지 단위)
+     */
+    @GetMapping("/result/{surveyId}/responses")
+    public ResponseEntity<?> getSurveyResponses(@AuthenticationPrincipal UserEntity userInfo,
+                                                @PathVariable("surveyId") Long surveyId,
+                                                @RequestParam(value = "page", defaultValue = "0") int page) {
+        try {
+            SurveyResponsePageDto response = mySurveyService.getSurveyResponses(surveyId, userInfo, page);
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 설문조사 응답 내보내기 (csv 또는 ndjson)
+     * 응답을 모아두지 않고 출력 스트림에 바로 씀 - 성공 시 반환값 없음
+     */
+    @GetMapping("/result/{surveyId}/export")
+    public ResponseEntity<?> exportSurveyResponses(@AuthenticationPrincipal UserEntity userInfo,
+                                                   @PathVariable("surveyId") Long surveyId,
+                                                   @RequestParam(value = "format", defaultValue = "csv") String format,
+                                                   HttpServletResponse response) {
+        final SurveyExportService.ExportFormat exportFormat;
+        try {
+            // 헤더나 본문을 쓰기 전에 작성자 여부를 확인
+            exportFormat = surveyExportService.prepare(surveyId, userInfo, format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        }
+
+        try {
+            response.setContentType(exportFormat.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"survey-" + surveyId + "." + exportFormat.getExtension() + "\"");
+            surveyExportService.export(surveyId, exportFormat, response.getOutputStream());
+            return null;
+        } catch (Exception e) {
+            if (response.isCommitted()) {
+                // 이미 전송을 시작한 경우 상태 코드를 바꿀 수 없으므로 로그만 남김
+                log.warn("설문조사 응답 내보내기 중단: surveyId={}", surveyId, e);
+                return null;
+            }
+            response.reset();
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
 }
\ No newline at end of file
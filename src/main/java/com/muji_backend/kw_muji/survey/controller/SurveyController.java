@@ -3,6 +3,7 @@ package com.muji_backend.kw_muji.survey.controller;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.survey.dto.request.SurveyRequestDto;
 import com.muji_backend.kw_muji.survey.dto.request.SurveySubmitRequestDto;
+import com.muji_backend.kw_muji.survey.dto.response.SurveyCursorResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.SurveyDetailResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.SurveyResponseDto;
 import com.muji_backend.kw_muji.survey.service.SurveyCreateService;
@@ -45,6 +46,19 @@ public class SurveyController {
         }
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<?> getSurveyListByCursor(@RequestParam(value = "search", required = false) String search,
+                                                   @RequestParam(value = "cursor") String cursor) {
+        try {
+            SurveyCursorResponseDto response = surveyService.getSurveysByCursor(search, cursor);
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
+
     @PostMapping("/create")
     public ResponseEntity<?> createSurvey(@AuthenticationPrincipal UserEntity userInfo, @RequestBody SurveyRequestDto requestDto) {
         try {
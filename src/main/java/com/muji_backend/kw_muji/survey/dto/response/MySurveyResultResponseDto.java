@@ -1,6 +1,7 @@
 package com.muji_backend.kw_muji.survey.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.muji_backend.kw_muji.common.entity.enums.QuestionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,9 +23,30 @@ public class MySurveyResultResponseDto {
 
     private LocalDate createdAt;
     private LocalDate endDate;
-    private List<SurveyDetailResponseDto.QuestionDto> questions;  // 질문 정보를 가져옴
-    private List<ResponseDto> responses;  // 응답 정보
+    private long totalResponses;  // 전체 응답 수
+    private List<QuestionResultDto> questions;  // 질문별 집계
 
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class QuestionResultDto {
+        private Long questionId;
+        private String questionText;
+        private QuestionType questionType;
+        private long responseCount;  // 질문에 응답한 수
+        private List<ChoiceResultDto> choices;  // 객관식 질문의 선택지별 집계
+
+        @Data
+        @Builder
+        @AllArgsConstructor
+        public static class ChoiceResultDto {
+            private Long choiceId;
+            private String choiceText;
+            private long responseCount;  // 선택지를 선택한 수
+        }
+    }
+
+    // 개별 응답 (응답 목록 조회에서 사용)
     @Data
     @Builder
     @AllArgsConstructor
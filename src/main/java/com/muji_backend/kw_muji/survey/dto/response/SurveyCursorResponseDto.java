@@ -0,0 +1,17 @@
+package com.muji_backend.kw_muji.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class SurveyCursorResponseDto {
+
+    private List<SurveyResponseDto.SurveyItemDto> surveys;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.muji_backend.kw_muji.survey.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class SurveyResponsePageDto {
+
+    private int currentPage;
+    private int totalPages;
+    private long totalItems;
+    private List<MySurveyResultResponseDto.ResponseDto> responses;
+}
@@ -0,0 +1,42 @@
+package com.muji_backend.kw_muji.survey.repository;
+
+import com.muji_backend.kw_muji.survey.dto.request.SurveySubmitRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 설문 응답(answer) 일괄 저장
+ * AnswerEntity는 IDENTITY 전략이라 Hibernate가 insert를 배치로 묶지 못하므로 JDBC 배치로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerBatchRepository {
+
+    private static final String INSERT_ANSWER =
+            "INSERT INTO answer (answer_text, response_id, question_id, choice_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 하나의 응답에 속한 답변을 한 번의 배치로 저장하는 메서드
+     *
+     * @param responseId 응답 ID
+     * @param answers    검증이 끝난 답변 목록
+     */
+    public void insertAll(Long responseId, List<SurveySubmitRequestDto.AnswerDto> answers) {
+        jdbcTemplate.batchUpdate(INSERT_ANSWER, answers, answers.size(), (ps, answer) -> {
+            ps.setString(1, answer.getAnswerText() != null ? answer.getAnswerText() : "");
+            ps.setLong(2, responseId);
+            ps.setLong(3, answer.getQuestionId());
+            if (answer.getChoiceId() != null) {
+                ps.setLong(4, answer.getChoiceId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+        });
+    }
+}
@@ -1,9 +1,31 @@
 package com.muji_backend.kw_muji.survey.repository;
 
 import com.muji_backend.kw_muji.common.entity.AnswerEntity;
+import com.muji_backend.kw_muji.common.entity.enums.QuestionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface AnswerRepository extends JpaRepository<AnswerEntity, Long> {
+
+    // 여러 응답의 답변을 질문, 선택지 내용과 함께 한 번에 조회
+    @Query("SELECT a.response.id AS responseId, q.id AS questionId, q.questionText AS questionText, " +
+            "q.questionType AS questionType, a.answerText AS answerText, c.choiceText AS choiceText " +
+            "FROM AnswerEntity a JOIN a.question q LEFT JOIN a.choice c " +
+            "WHERE a.response.id IN :responseIds " +
+            "ORDER BY a.response.id, a.id")
+    List<AnswerView> findAllByResponseIdIn(@Param("responseIds") List<Long> responseIds);
+
+    interface AnswerView {
+        Long getResponseId();
+        Long getQuestionId();
+        String getQuestionText();
+        QuestionType getQuestionType();
+        String getAnswerText();
+        String getChoiceText();
+    }
 }
\ No newline at end of file
@@ -2,8 +2,16 @@ package com.muji_backend.kw_muji.survey.repository;
 
 import com.muji_backend.kw_muji.common.entity.QuestionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface QuestionRepository extends JpaRepository<QuestionEntity, Long> {
+
+    // 설문의 모든 질문과 선택지를 한 번에 조회
+    @Query("SELECT DISTINCT q FROM QuestionEntity q LEFT JOIN FETCH q.choice WHERE q.survey.id = :surveyId")
+    List<QuestionEntity> findAllWithChoiceBySurveyId(@Param("surveyId") Long surveyId);
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.muji_backend.kw_muji.survey.repository;
 
 import com.muji_backend.kw_muji.common.entity.ResponseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +14,8 @@ import java.util.List;
 public interface ResponseRepository extends JpaRepository<ResponseEntity, Long> {
     List<ResponseEntity> findBySurveyId(Long surveyId);
     boolean existsByUsersIdAndSurveyId(Long userId, Long surveyId);
+
+    @Query(value = "SELECT r.id FROM ResponseEntity r WHERE r.survey.id = :surveyId",
+            countQuery = "SELECT COUNT(r) FROM ResponseEntity r WHERE r.survey.id = :surveyId")
+    Page<Long> findIdsBySurveyId(@Param("surveyId") Long surveyId, Pageable pageable);
 }
\ No newline at end of file
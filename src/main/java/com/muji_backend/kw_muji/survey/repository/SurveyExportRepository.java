@@ -0,0 +1,55 @@
+package com.muji_backend.kw_muji.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 설문 응답 내보내기용 조회
+ * 결과를 메모리에 모으지 않고 MySQL 스트리밍 결과셋(forward-only, fetch size = Integer.MIN_VALUE)으로 한 행씩 전달
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyExportRepository {
+
+    private static final String SELECT_ANSWERS =
+            "SELECT a.response_id, q.id AS question_id, q.question_text, q.question_type, " +
+                    "COALESCE(c.choice_text, a.answer_text) AS answer " +
+                    "FROM answer a " +
+                    "JOIN response r ON r.id = a.response_id " +
+                    "JOIN question q ON q.id = a.question_id " +
+                    "LEFT JOIN choice c ON c.id = a.choice_id " +
+                    "WHERE r.survey_id = ? " +
+                    "ORDER BY a.response_id, a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 설문의 모든 답변을 응답 순서대로 한 행씩 처리하는 메서드
+     *
+     * @param surveyId 설문 ID
+     * @param handler  행 처리기
+     */
+    public void streamAnswers(Long surveyId, AnswerRowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ANSWERS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setLong(1, surveyId);
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.handle(
+                rs.getLong("response_id"),
+                rs.getLong("question_id"),
+                rs.getString("question_text"),
+                rs.getString("question_type"),
+                rs.getString("answer")));
+    }
+
+    @FunctionalInterface
+    public interface AnswerRowHandler {
+        void handle(long responseId, long questionId, String questionText, String questionType, String answer);
+    }
+}
@@ -2,12 +2,15 @@ package com.muji_backend.kw_muji.survey.repository;
 
 import com.muji_backend.kw_muji.common.entity.SurveyEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,5 +18,23 @@ public interface SurveyRepository extends JpaRepository<SurveyEntity, Long> {
 
     Page<SurveyEntity> findByTitleContainingOrDescriptionContaining(String title, String description, Pageable pageable);
     List<SurveyEntity> findByUsers(UserEntity user);
-    List<SurveyEntity> findByIsOngoingTrueAndEndDateLessThan(LocalDate today);
+    List<SurveyEntity> findTop4ByUsersOrderByEndDateDesc(UserEntity user);
+
+    // FULLTEXT(ngram) 검색 - 관련도 순으로 정렬
+    @Query(value = "SELECT * FROM survey s " +
+            "WHERE MATCH(s.title, s.description) AGAINST(:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(s.title, s.description) AGAINST(:query IN BOOLEAN MODE) DESC, s.created_at DESC, s.id DESC",
+            countQuery = "SELECT COUNT(*) FROM survey s WHERE MATCH(s.title, s.description) AGAINST(:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<SurveyEntity> searchByFullText(@Param("query") String query, Pageable pageable);
+
+    // 커서 기반 목록 조회 - 커서(createdAt, id) 이후의 설문을 최신순으로 조회 (COUNT 쿼리 없음)
+    @Query("SELECT s FROM SurveyEntity s " +
+            "WHERE (:search IS NULL OR s.title LIKE CONCAT('%', :search, '%') ESCAPE '!' OR s.description LIKE CONCAT('%', :search, '%') ESCAPE '!') " +
+            "AND (:createdAt IS NULL OR s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<SurveyEntity> findSurveysAfter(@Param("search") String search,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.muji_backend.kw_muji.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 설문조사 진행 상태 일괄 변경
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyStatusRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 종료일이 지난 진행 중인 설문조사를 최대 limit개 종료 상태로 변경하는 메서드
+     *
+     * @param today 오늘 날짜 (종료일이 이보다 이전인 설문이 대상)
+     * @param limit 한 번에 변경할 최대 행 수
+     * @return 변경된 행 수
+     */
+    public int closeExpired(LocalDate today, int limit) {
+        return jdbcTemplate.update("UPDATE survey SET is_ongoing = false WHERE is_ongoing = true AND end_date < ? LIMIT ?",
+                today, limit);
+    }
+}
@@ -0,0 +1,58 @@
+package com.muji_backend.kw_muji.survey.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 설문 결과 집계(survey, question, choice의 response_count) 갱신
+ * 동시에 제출되는 응답이 서로의 값을 덮어쓰지 않도록 DB에서 직접 증가
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyTallyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응답 하나가 제출될 때 설문, 응답한 질문, 선택한 선택지의 응답 수를 1씩 증가시키는 메서드
+     *
+     * @param surveyId    설문 ID
+     * @param questionIds 응답한 질문 ID (중복 없음)
+     * @param choiceIds   선택한 선택지 ID (중복 없음)
+     */
+    public void increment(Long surveyId, Collection<Long> questionIds, Collection<Long> choiceIds) {
+        jdbcTemplate.update("UPDATE survey SET response_count = response_count + 1 WHERE id = ?", surveyId);
+
+        if (!questionIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE question SET response_count = response_count + 1 WHERE id IN (" + placeholders(questionIds.size()) + ")",
+                    questionIds.toArray());
+        }
+        if (!choiceIds.isEmpty()) {
+            jdbcTemplate.update("UPDATE choice SET response_count = response_count + 1 WHERE id IN (" + placeholders(choiceIds.size()) + ")",
+                    choiceIds.toArray());
+        }
+    }
+
+    /**
+     * 저장된 응답으로 모든 집계를 다시 계산하는 메서드
+     * 집계 컬럼이 추가되기 전의 응답을 반영하기 위해 사용
+     */
+    public void rebuildAll() {
+        jdbcTemplate.update("UPDATE survey s SET s.response_count = " +
+                "(SELECT COUNT(*) FROM response r WHERE r.survey_id = s.id)");
+        jdbcTemplate.update("UPDATE question q SET q.response_count = " +
+                "(SELECT COUNT(DISTINCT a.response_id) FROM answer a WHERE a.question_id = q.id)");
+        jdbcTemplate.update("UPDATE choice c SET c.response_count = " +
+                "(SELECT COUNT(DISTINCT a.response_id) FROM answer a WHERE a.choice_id = c.id)");
+    }
+
+    // == Private Methods ==
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
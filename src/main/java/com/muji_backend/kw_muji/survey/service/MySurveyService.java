@@ -1,20 +1,31 @@
 package com.muji_backend.kw_muji.survey.service;
 
-import com.muji_backend.kw_muji.common.entity.AnswerEntity;
-import com.muji_backend.kw_muji.common.entity.ResponseEntity;
+import com.muji_backend.kw_muji.common.entity.ChoiceEntity;
+import com.muji_backend.kw_muji.common.entity.QuestionEntity;
 import com.muji_backend.kw_muji.common.entity.SurveyEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.entity.enums.QuestionType;
 import com.muji_backend.kw_muji.survey.dto.response.MySurveyResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.MySurveyResultResponseDto;
-import com.muji_backend.kw_muji.survey.dto.response.SurveyDetailResponseDto;
+import com.muji_backend.kw_muji.survey.dto.response.SurveyResponsePageDto;
+import com.muji_backend.kw_muji.survey.repository.AnswerRepository;
+import com.muji_backend.kw_muji.survey.repository.QuestionRepository;
 import com.muji_backend.kw_muji.survey.repository.ResponseRepository;
 import com.muji_backend.kw_muji.survey.repository.SurveyRepository;
 import com.muji_backend.kw_muji.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 
@@ -22,11 +33,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MySurveyService {
 
+    // 개별 응답 조회 시 한 페이지에 보여줄 응답 수
+    private static final int RESPONSE_PAGE_SIZE = 50;
+
     private final SurveyRepository surveyRepository;
     private final UserRepository userRepository;
     private final ResponseRepository responseRepository;
-
-    private final SurveyService surveyService;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
 
     /**
      * 특정 유저가 작성한 설문조사 목록을 조회
@@ -81,6 +95,15 @@ public class MySurveyService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 설문조사를 찾을 수 없습니다: " + surveyId));
     }
 
+    // 설문 작성자만 결과와 응답을 볼 수 있음
+    private SurveyEntity getOwnedSurvey(Long surveyId, UserEntity user) {
+        SurveyEntity survey = getSurveyById(surveyId);
+        if (!Objects.equals(survey.getUsers().getId(), user.getId())) {
+            throw new IllegalArgumentException("권한이 없습니다.");
+        }
+        return survey;
+    }
+
     /**
      * 설문조사를 삭제하는 메서드
      *
@@ -94,53 +117,100 @@ public class MySurveyService {
 
     /**
      * 설문조사 결과를 조회하는 메서드
+     * 응답 제출 시 갱신된 집계를 읽으므로 응답 수와 관계없이 질문 수만큼만 조회
      *
      * @param surveyId 조회할 설문의 ID
-     * @return 설문조사와 응답 결과
+     * @param user     요청한 유저 (설문 작성자만 조회 가능)
+     * @return 설문조사와 질문별 집계 결과
      */
-    public MySurveyResultResponseDto getSurveyResult(Long surveyId) {
-        // 설문조사 기본 정보 및 질문을 SurveyService에서 가져옴
-        SurveyDetailResponseDto surveyDetail = surveyService.getSurveyDetail(surveyId);
+    public MySurveyResultResponseDto getSurveyResult(Long surveyId, UserEntity user) {
+        SurveyEntity survey = getOwnedSurvey(surveyId, user);
 
-        // 설문조사에 대한 응답 데이터 가져오기
-        List<ResponseEntity> responses = responseRepository.findBySurveyId(surveyId);
-        List<MySurveyResultResponseDto.ResponseDto> responseDtos = mapToResponseDtos(responses);
+        List<MySurveyResultResponseDto.QuestionResultDto> questions = questionRepository.findAllWithChoiceBySurveyId(surveyId).stream()
+                .sorted(Comparator.comparing(QuestionEntity::getId))
+                .map(this::mapToQuestionResultDto)
+                .collect(Collectors.toList());
 
         return MySurveyResultResponseDto.builder()
-                .surveyId(surveyDetail.getSurveyId())
-                .title(surveyDetail.getTitle())
-                .description(surveyDetail.getDescription())
-                .isOngoing(surveyDetail.isOngoing())
-                .createdAt(surveyDetail.getCreatedAt())
-                .endDate(surveyDetail.getEndDate())
-                .questions(surveyDetail.getQuestions())  // 설문조사 기본 정보의 질문 포함
-                .responses(responseDtos)  // 응답 데이터
+                .surveyId(survey.getId())
+                .title(survey.getTitle())
+                .description(survey.getDescription())
+                .isOngoing(survey.isOngoing())
+                .createdAt(survey.getCreatedAt().toLocalDate())
+                .endDate(survey.getEndDate())
+                .totalResponses(survey.getResponseCount())
+                .questions(questions)
                 .build();
     }
 
-    // == Private Methods ==
-
-    private List<MySurveyResultResponseDto.ResponseDto> mapToResponseDtos(List<ResponseEntity> responses) {
-        return responses.stream()
-                .map(response -> MySurveyResultResponseDto.ResponseDto.builder()
-                        .responseId(response.getId())
-                        .answers(mapToAnswerDtos(response.getAnswer()))
+    /**
+     * 설문조사의 개별 응답을 페이지 단위로 조회하는 메서드
+     *
+     * @param surveyId 조회할 설문의 ID
+     * @param user     요청한 유저 (설문 작성자만 조회 가능)
+     * @param page     페이지 번호 (0부터 시작)
+     * @return 응답 목록
+     */
+    public SurveyResponsePageDto getSurveyResponses(Long surveyId, UserEntity user, int page) {
+        getOwnedSurvey(surveyId, user);
+
+        Page<Long> responseIds = responseRepository.findIdsBySurveyId(surveyId,
+                PageRequest.of(page, RESPONSE_PAGE_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+
+        // 페이지에 포함된 응답의 답변을 한 번에 조회해 응답별로 묶음
+        Map<Long, List<MySurveyResultResponseDto.ResponseDto.AnswerDto>> answersByResponse = new HashMap<>();
+        if (!responseIds.isEmpty()) {
+            for (AnswerRepository.AnswerView answer : answerRepository.findAllByResponseIdIn(responseIds.getContent())) {
+                answersByResponse.computeIfAbsent(answer.getResponseId(), id -> new ArrayList<>()).add(mapToAnswerDto(answer));
+            }
+        }
+
+        List<MySurveyResultResponseDto.ResponseDto> responses = responseIds.getContent().stream()
+                .map(responseId -> MySurveyResultResponseDto.ResponseDto.builder()
+                        .responseId(responseId)
+                        .answers(answersByResponse.getOrDefault(responseId, List.of()))
                         .build())
                 .collect(Collectors.toList());
+
+        return SurveyResponsePageDto.builder()
+                .currentPage(responseIds.getNumber())
+                .totalPages(responseIds.getTotalPages())
+                .totalItems(responseIds.getTotalElements())
+                .responses(responses)
+                .build();
     }
 
-    private List<MySurveyResultResponseDto.ResponseDto.AnswerDto> mapToAnswerDtos(List<AnswerEntity> answers) {
-        return answers.stream()
-                .map(answer -> MySurveyResultResponseDto.ResponseDto.AnswerDto.builder()
-                        .questionId(answer.getQuestion().getId())
-                        .questionText(answer.getQuestion().getQuestionText())
-                        .questionType(answer.getQuestion().getQuestionType().name())
-                        .answerText(getAnswerText(answer))
-                        .build())
-                .collect(Collectors.toList());
+    // == Private Methods ==
+
+    private MySurveyResultResponseDto.QuestionResultDto mapToQuestionResultDto(QuestionEntity question) {
+        List<MySurveyResultResponseDto.QuestionResultDto.ChoiceResultDto> choices = null;
+
+        if (question.getQuestionType() == QuestionType.CHOICE) {
+            choices = question.getChoice().stream()
+                    .sorted(Comparator.comparing(ChoiceEntity::getId))
+                    .map(choice -> MySurveyResultResponseDto.QuestionResultDto.ChoiceResultDto.builder()
+                            .choiceId(choice.getId())
+                            .choiceText(choice.getChoiceText())
+                            .responseCount(choice.getResponseCount())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        return MySurveyResultResponseDto.QuestionResultDto.builder()
+                .questionId(question.getId())
+                .questionText(question.getQuestionText())
+                .questionType(question.getQuestionType())
+                .responseCount(question.getResponseCount())
+                .choices(choices)
+                .build();
     }
 
-    private String getAnswerText(AnswerEntity answer) {
-        return (answer.getChoice() != null) ? answer.getChoice().getChoiceText() : answer.getAnswerText();
+    private MySurveyResultResponseDto.ResponseDto.AnswerDto mapToAnswerDto(AnswerRepository.AnswerView answer) {
+        return MySurveyResultResponseDto.ResponseDto.AnswerDto.builder()
+                .questionId(answer.getQuestionId())
+                .questionText(answer.getQuestionText())
+                .questionType(answer.getQuestionType().name())
+                .answerText(answer.getChoiceText() != null ? answer.getChoiceText() : answer.getAnswerText())
+                .build();
     }
 }
\ No newline at end of file
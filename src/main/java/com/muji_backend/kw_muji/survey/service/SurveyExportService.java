@@ -0,0 +1,146 @@
+package com.muji_backend.kw_muji.survey.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muji_backend.kw_muji.common.entity.SurveyEntity;
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.survey.repository.SurveyExportRepository;
+import com.muji_backend.kw_muji.survey.repository.SurveyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 설문 응답을 CSV 또는 NDJSON으로 내보내는 서비스
+ * 답변을 한 행씩 읽어 바로 출력 스트림에 쓰므로 응답 수와 관계없이 메모리 사용량이 일정함
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyExportService {
+
+    private static final String[] CSV_HEADER = {"responseId", "questionId", "questionText", "questionType", "answer"};
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyExportRepository surveyExportRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청자가 설문 작성자인지와 내보내기 형식을 확인하는 메서드 (스트리밍 시작 전에 호출)
+     *
+     * @param surveyId 설문 ID
+     * @param user     요청한 유저
+     * @param format   csv 또는 ndjson
+     * @return 내보내기 형식
+     */
+    public ExportFormat prepare(Long surveyId, UserEntity user, String format) {
+        SurveyEntity survey = surveyRepository.findById(surveyId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 설문조사를 찾을 수 없습니다: " + surveyId));
+        if (!Objects.equals(survey.getUsers().getId(), user.getId())) {
+            throw new IllegalArgumentException("권한이 없습니다.");
+        }
+        return ExportFormat.from(format);
+    }
+
+    /**
+     * 설문 응답을 출력 스트림에 쓰는 메서드
+     *
+     * @param surveyId     설문 ID
+     * @param format       내보내기 형식
+     * @param outputStream 응답 출력 스트림
+     */
+    public void export(Long surveyId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writeCsvRow(writer, CSV_HEADER);
+        }
+
+        try {
+            surveyExportRepository.streamAnswers(surveyId, (responseId, questionId, questionText, questionType, answer) -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsvRow(writer, new String[]{String.valueOf(responseId), String.valueOf(questionId), questionText, questionType, answer});
+                    } else {
+                        writeJsonRow(writer, responseId, questionId, questionText, questionType, answer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결이 끊긴 경우 조회 중단
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    // == Private Methods ==
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씀 (RFC 4180)
+    // =, +, -, @로 시작하는 값은 스프레드시트에서 수식으로 실행되지 않도록 앞에 '를 붙임
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private void writeJsonRow(Writer writer, long responseId, long questionId, String questionText, String questionType, String answer) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("responseId", responseId);
+        row.put("questionId", questionId);
+        row.put("questionText", questionText);
+        row.put("questionType", questionType);
+        row.put("answer", answer);
+
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson; charset=UTF-8", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        static ExportFormat from(String format) {
+            if (format == null || format.isBlank() || format.equalsIgnoreCase("csv")) {
+                return CSV;
+            }
+            if (format.equalsIgnoreCase("ndjson")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+    }
+}
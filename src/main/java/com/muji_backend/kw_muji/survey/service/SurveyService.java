@@ -1,12 +1,16 @@
 package com.muji_backend.kw_muji.survey.service;
 
 import com.muji_backend.kw_muji.common.entity.QuestionEntity;
+import com.muji_backend.kw_muji.common.pagination.Cursor;
+import com.muji_backend.kw_muji.common.search.FullTextSearch;
 import com.muji_backend.kw_muji.common.entity.SurveyEntity;
 import com.muji_backend.kw_muji.common.entity.enums.QuestionType;
+import com.muji_backend.kw_muji.survey.dto.response.SurveyCursorResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.SurveyDetailResponseDto;
 import com.muji_backend.kw_muji.survey.dto.response.SurveyResponseDto;
 import com.muji_backend.kw_muji.survey.repository.SurveyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -22,9 +26,11 @@ public class SurveyService {
     private static final int PAGE_SIZE = 8;
 
     private final SurveyRepository surveyRepository;
+    private final FullTextSearch fullTextSearch;
 
     /**
      * 설문 조사 목록을 검색하고, 페이지 번호를 기반으로 페이징 처리하여 반환하는 메서드
+     * 검색어가 있으면 FULLTEXT 인덱스로 검색하고 관련도 순으로 정렬
      *
      * @param search 검색어 (설문 제목 또는 설명에서 필터링)
      * @param page   페이지 번호 (0부터 시작)
@@ -38,28 +44,78 @@ public class SurveyService {
         return buildSurveyResponse(surveyPage, surveyItems);
     }
 
+    /**
+     * 설문 조사 목록을 커서 기반으로 조회하는 메서드
+     * 페이지 번호 방식과 달리 앞의 행을 건너뛰거나 전체 개수를 세지 않음
+     *
+     * @param search 검색어 (설문 제목 또는 설명에서 필터링)
+     * @param cursor 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     */
+    public SurveyCursorResponseDto getSurveysByCursor(String search, String cursor) {
+        Cursor after = Cursor.decode(cursor);
+        String keyword = (search == null || search.isBlank()) ? null : escapeLike(search);
+
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개 더 조회
+        List<SurveyEntity> surveys = surveyRepository.findSurveysAfter(
+                keyword,
+                after != null ? after.getCreatedAt() : null,
+                after != null ? after.getId() : null,
+                Limit.of(PAGE_SIZE + 1));
+
+        boolean hasNext = surveys.size() > PAGE_SIZE;
+        List<SurveyEntity> content = hasNext ? surveys.subList(0, PAGE_SIZE) : surveys;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SurveyEntity last = content.get(content.size() - 1);
+            nextCursor = Cursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return SurveyCursorResponseDto.builder()
+                .surveys(content.stream().map(this::mapToSurveyItemDto).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     // == Private Methods ==
 
+    // LIKE 와일드카드 문자를 일반 문자로 취급
+    private String escapeLike(String search) {
+        return search.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     private Page<SurveyEntity> findSurveysBySearch(String search, PageRequest pageRequest) {
         if (search == null || search.isBlank()) {
             return surveyRepository.findAll(pageRequest);
         }
+
+        String query = fullTextSearch.toQuery(search);
+        if (query != null) {
+            return surveyRepository.searchByFullText(query, pageRequest);
+        }
+
+        // 검색어가 너무 짧거나 FULLTEXT 인덱스를 사용할 수 없는 경우
         return surveyRepository.findByTitleContainingOrDescriptionContaining(search, search, pageRequest);
     }
 
     private List<SurveyResponseDto.SurveyItemDto> mapToSurveyItemDtos(Page<SurveyEntity> surveyPage) {
         return surveyPage.getContent().stream()
-                .map(survey -> SurveyResponseDto.SurveyItemDto.builder()
-                        .surveyId(survey.getId())
-                        .title(survey.getTitle())
-                        .description(survey.getDescription())
-                        .isOngoing(survey.isOngoing())
-                        .createdAt(survey.getCreatedAt().toLocalDate())
-                        .endDate(survey.getEndDate())
-                        .build())
+                .map(this::mapToSurveyItemDto)
                 .collect(Collectors.toList());
     }
 
+    private SurveyResponseDto.SurveyItemDto mapToSurveyItemDto(SurveyEntity survey) {
+        return SurveyResponseDto.SurveyItemDto.builder()
+                .surveyId(survey.getId())
+                .title(survey.getTitle())
+                .description(survey.getDescription())
+                .isOngoing(survey.isOngoing())
+                .createdAt(survey.getCreatedAt().toLocalDate())
+                .endDate(survey.getEndDate())
+                .build();
+    }
+
     private SurveyResponseDto buildSurveyResponse(Page<SurveyEntity> surveyPage, List<SurveyResponseDto.SurveyItemDto> surveyItems) {
         return SurveyResponseDto.builder()
                 .currentPage(surveyPage.getNumber())
@@ -2,16 +2,24 @@ package com.muji_backend.kw_muji.survey.service;
 
 import com.muji_backend.kw_muji.common.entity.*;
 import com.muji_backend.kw_muji.survey.dto.request.SurveySubmitRequestDto;
-import com.muji_backend.kw_muji.survey.repository.ChoiceRepository;
+import com.muji_backend.kw_muji.survey.repository.AnswerBatchRepository;
 import com.muji_backend.kw_muji.survey.repository.QuestionRepository;
 import com.muji_backend.kw_muji.survey.repository.ResponseRepository;
 import com.muji_backend.kw_muji.survey.repository.SurveyRepository;
+import com.muji_backend.kw_muji.survey.repository.SurveyTallyRepository;
 import com.muji_backend.kw_muji.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +30,8 @@ public class SurveySubmitService {
     private final UserRepository userRepository;
     private final ResponseRepository responseRepository;
     private final QuestionRepository questionRepository;
-    private final ChoiceRepository choiceRepository;
+    private final AnswerBatchRepository answerBatchRepository;
+    private final SurveyTallyRepository surveyTallyRepository;
 
     /**
      * 설문 응답을 제출하는 서비스 메서드
@@ -45,11 +54,18 @@ public class SurveySubmitService {
             throw new IllegalStateException("설문 기간이 종료된 설문입니다.: " + surveyId);
         }
 
+        // 질문과 선택지를 한 번에 불러와 검증
+        List<SurveySubmitRequestDto.AnswerDto> answers = requestDto.getAnswers() != null ? requestDto.getAnswers() : List.of();
+        validateAnswers(surveyId, answers);
+
         // 응답을 저장
         ResponseEntity response = createAndSaveResponse(survey, user);
 
         // 질문과 응답을 처리
-        handleAnswers(requestDto, response);
+        handleAnswers(answers, response);
+
+        // 결과 집계 갱신 (응답 저장과 같은 트랜잭션)
+        updateTally(surveyId, answers);
 
         return response.getId();
     }
@@ -75,39 +91,41 @@ public class SurveySubmitService {
         return responseRepository.save(response);
     }
 
-    private void handleAnswers(SurveySubmitRequestDto requestDto, ResponseEntity response) {
-        for (SurveySubmitRequestDto.AnswerDto answerDto : requestDto.getAnswers()) {
-            QuestionEntity question = findQuestionById(answerDto.getQuestionId());
+    // 질문은 해당 설문에, 선택지는 해당 질문에 속해야 함
+    private void validateAnswers(Long surveyId, List<SurveySubmitRequestDto.AnswerDto> answers) {
+        Map<Long, QuestionEntity> questions = questionRepository.findAllWithChoiceBySurveyId(surveyId).stream()
+                .collect(Collectors.toMap(QuestionEntity::getId, Function.identity()));
 
-            // 주관식 혹은 객관식 응답 처리
-            AnswerEntity answer = createAnswer(response, question, answerDto.getAnswerText());
-
-            // 객관식 선택지의 경우 선택지를 설정
-            if (answerDto.getChoiceId() != null) {
-                ChoiceEntity choice = findChoiceById(answerDto.getChoiceId());
-                answer.setChoice(choice);
+        for (SurveySubmitRequestDto.AnswerDto answerDto : answers) {
+            QuestionEntity question = questions.get(answerDto.getQuestionId());
+            if (question == null) {
+                throw new IllegalArgumentException("해당 ID의 질문을 찾을 수 없습니다: " + answerDto.getQuestionId());
             }
 
-            response.getAnswer().add(answer);  // 응답에 추가
+            // 객관식 선택지의 경우 질문의 선택지인지 확인
+            if (answerDto.getChoiceId() != null && question.getChoice().stream()
+                    .noneMatch(choice -> choice.getId().equals(answerDto.getChoiceId()))) {
+                throw new IllegalArgumentException("해당 ID의 선택지를 찾을 수 없습니다: " + answerDto.getChoiceId());
+            }
         }
-        responseRepository.save(response);  // 최종 응답 저장
     }
 
-    private QuestionEntity findQuestionById(Long questionId) {
-        return questionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 질문을 찾을 수 없습니다: " + questionId));
-    }
+    private void updateTally(Long surveyId, List<SurveySubmitRequestDto.AnswerDto> answers) {
+        Set<Long> questionIds = answers.stream()
+                .map(SurveySubmitRequestDto.AnswerDto::getQuestionId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> choiceIds = answers.stream()
+                .map(SurveySubmitRequestDto.AnswerDto::getChoiceId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-    private ChoiceEntity findChoiceById(Long choiceId) {
-        return choiceRepository.findById(choiceId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 선택지를 찾을 수 없습니다: " + choiceId));
+        surveyTallyRepository.increment(surveyId, questionIds, choiceIds);
     }
 
-    private AnswerEntity createAnswer(ResponseEntity response, QuestionEntity question, String answerText) {
-        return AnswerEntity.builder()
-                .response(response)
-                .question(question)
-                .answerText(answerText != null ? answerText : "")
-                .build();
+    private void handleAnswers(List<SurveySubmitRequestDto.AnswerDto> answers, ResponseEntity response) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        answerBatchRepository.insertAll(response.getId(), answers);  // 응답을 한 번의 배치로 저장
     }
 }
\ No newline at end of file
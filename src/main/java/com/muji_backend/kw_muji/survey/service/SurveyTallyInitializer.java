@@ -0,0 +1,40 @@
+package com.muji_backend.kw_muji.survey.service;
+
+import com.muji_backend.kw_muji.survey.repository.SurveyTallyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 응답으로 설문 결과 집계를 다시 계산
+ * 집계 컬럼 추가 이전의 응답을 반영하기 위한 일회성 작업으로, 기본값은 꺼짐
+ * 필요할 때만 survey.tally.rebuild-on-startup=true로 한 번 실행 (여러 번 실행해도 결과는 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyTallyInitializer implements ApplicationRunner {
+
+    private final SurveyTallyRepository surveyTallyRepository;
+
+    @Value("${survey.tally.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!rebuildOnStartup) {
+            return;
+        }
+
+        try {
+            surveyTallyRepository.rebuildAll();
+            log.info("설문 결과 집계 재계산 완료");
+        } catch (DataAccessException e) {
+            log.warn("설문 결과 집계 재계산 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.muji_backend.kw_muji.team.controller;
 
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
+import com.muji_backend.kw_muji.common.image.StoredImage;
 import com.muji_backend.kw_muji.team.dto.request.ProjectDetailRequestDTO;
 import com.muji_backend.kw_muji.team.dto.request.ProjectStartRequestDTO;
 import com.muji_backend.kw_muji.team.dto.response.MyCreatedProjectResponseDTO;
@@ -8,9 +9,9 @@ import com.muji_backend.kw_muji.team.dto.response.MyProjectResponseDTO;
 import com.muji_backend.kw_muji.team.dto.response.ProjectDetailResponseDTO;
 import com.muji_backend.kw_muji.team.service.MyTeamService;
 import com.muji_backend.kw_muji.team.service.TeamService;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -18,7 +19,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.URLEncoder;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +30,7 @@ import java.util.Map;
 public class MyTeamController {
     private final MyTeamService myTeamService;
     private final TeamService teamService;
-
-    @Value("${cloud.aws.s3.url}")
-    private String bucketURL;
+    private final MediaUrlResolver mediaUrlResolver;
 
     @GetMapping("/participation")
     public ResponseEntity<Map<String, Object>> getMyProjects(@AuthenticationPrincipal UserEntity userInfo) {
@@ -86,7 +84,7 @@ public class MyTeamController {
                     .description(project.getDescription())
                     .createdAt(project.getCreatedAt())
                     .deadlineAt(LocalDate.from(project.getDeadlineAt()))
-                    .image(project.getImage() != null ? bucketURL + URLEncoder.encode(project.getImage(), "UTF-8") : "")
+                    .image(mediaUrlResolver.resolve(project.getImage()))
                     .role(teamService.getRole(projectId, userInfo) == null ? null : teamService.getRole(projectId, userInfo).getRole())
                     .isOnGoing(project.isOnGoing())
                     .build();
@@ -108,15 +106,16 @@ public class MyTeamController {
                 throw new IllegalArgumentException("권한이 없습니다.");
 
             final ProjectEntity project = teamService.getProject(dto.getId());
+            final StoredImage previousImage = new StoredImage(project.getImage(), project.getImageThumbnail());
 
-            final boolean isDeleteImage = Boolean.parseBoolean(dto.getIsDeleteImage());
-
-            if (file != null && file.length > 0 && !file[0].isEmpty())
-                project.setImage(myTeamService.uploadProjectImage(file, dto.getName()));
-            else if (isDeleteImage) // 팀 프로젝트 사진 삭제를 요청한 경우
-                myTeamService.deleteProjectImage(userInfo.getId());
+            if (file != null && file.length > 0 && !file[0].isEmpty()) {
+                final StoredImage image = myTeamService.uploadProjectImage(file, dto.getName());
+                project.setImage(image.key());
+                project.setImageThumbnail(image.thumbnailKey());
+            }
 
-            myTeamService.updateProject(project, dto);
+            myTeamService.updateProject(project, dto); // 팀 프로젝트 사진 삭제를 요청한 경우 image는 null로 변경
+            myTeamService.deleteReplacedImage(previousImage, project);
 
             return org.springframework.http.ResponseEntity.ok().body(Map.of("code", 200, "data", true));
         } catch (IllegalArgumentException | IOException e) {
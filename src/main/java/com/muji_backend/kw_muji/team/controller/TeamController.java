@@ -4,7 +4,9 @@ import com.muji_backend.kw_muji.common.entity.ParticipationEntity;
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.ResumeEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import com.muji_backend.kw_muji.common.image.StoredImage;
 import com.muji_backend.kw_muji.team.dto.request.RegisterRequestDTO;
 import com.muji_backend.kw_muji.team.dto.request.ResumeRequestDTO;
 import com.muji_backend.kw_muji.team.dto.response.ProjectDetailResponseDTO;
@@ -12,7 +14,6 @@ import com.muji_backend.kw_muji.team.dto.response.ResumeListResponseDTO;
 import com.muji_backend.kw_muji.team.service.TeamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,7 +21,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
-import java.net.URLEncoder;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Map;
@@ -32,9 +32,7 @@ import java.util.Objects;
 @RequestMapping("/team")
 public class TeamController {
     private final TeamService teamService;
-
-    @Value("${cloud.aws.s3.url}")
-    private String bucketURL;
+    private final MediaUrlResolver mediaUrlResolver;
 
     @PostMapping(value = "/register", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, Object>> writeProject(
@@ -48,7 +46,9 @@ public class TeamController {
             final ProjectEntity teamProject = new ProjectEntity();
 
             if (dto.getImage() != null && dto.getImage().length > 0 && !dto.getImage()[0].isEmpty()) {
-                teamProject.setImage(teamService.uploadProjectImage(dto.getImage(), dto.getName()));
+                final StoredImage image = teamService.uploadProjectImage(dto.getImage(), dto.getName());
+                teamProject.setImage(image.key());
+                teamProject.setImageThumbnail(image.thumbnailKey());
             }
 
             teamProject.setName(dto.getName());
@@ -86,7 +86,7 @@ public class TeamController {
                     .description(project.getDescription())
                     .createdAt(project.getCreatedAt())
                     .deadlineAt(LocalDate.from(project.getDeadlineAt()))
-                    .image(project.getImage() != null ? bucketURL + URLEncoder.encode(project.getImage(), "UTF-8") : "")
+                    .image(mediaUrlResolver.resolve(project.getImage()))
                     .role(teamService.getRole(projectId, userInfo) == null ? null : teamService.getRole(projectId, userInfo).getRole())
                     .isOnGoing(project.isOnGoing())
                     .start(project.isStart())
@@ -154,4 +154,18 @@ public class TeamController {
             return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
         }
     }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Map<String, Object>> showAllProjectsByCursor(@RequestParam(value = "cursor") String cursor,
+                                                                       @RequestParam(value = "search", required = false) String search) {
+        try {
+            Map<String, Object> result = teamService.getOnGoingProjectsByCursor(cursor, search);
+
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "message", e.getMessage()));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.muji_backend.kw_muji.team.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -20,4 +22,11 @@ public class ProjectListResponseDTO {
     private String image;
     @JsonProperty("isOngoing")
     private boolean isOnGoing;
+    @JsonIgnore
+    private LocalDateTime createdAt; // 커서 생성용
+
+    // TeamRepository의 JPQL 생성자 표현식에서 사용
+    public ProjectListResponseDTO(Long id, String name, boolean start, LocalDateTime deadlineAt, String image, boolean isOnGoing, LocalDateTime createdAt) {
+        this(id, name, start, deadlineAt.toLocalDate(), image, isOnGoing, createdAt);
+    }
 }
@@ -0,0 +1,29 @@
+package com.muji_backend.kw_muji.team.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팀 프로젝트 모집 상태 일괄 변경
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectStatusRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 마감일이 지난 모집 중인 프로젝트를 최대 limit개 모집 마감으로 변경하는 메서드
+     *
+     * @param today 오늘 자정 (마감일이 이보다 이전인 프로젝트가 대상)
+     * @param limit 한 번에 변경할 최대 행 수
+     * @return 변경된 행 수
+     */
+    public int closeExpired(LocalDateTime today, int limit) {
+        return jdbcTemplate.update("UPDATE project SET is_on_going = false WHERE is_on_going = true AND deadline_at < ? LIMIT ?",
+                today, limit);
+    }
+}
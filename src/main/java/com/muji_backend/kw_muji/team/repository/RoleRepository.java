@@ -5,12 +5,23 @@ import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface RoleRepository extends JpaRepository<ParticipationEntity, Long> {
     ParticipationEntity findByProjectIdAndUsers(Long projectId, UserEntity user);
     List<ParticipationEntity> findAllByUsersAndRole(UserEntity user, ProjectRole role);
-    List<ParticipationEntity> findAllByProjectAndRole(ProjectEntity project, ProjectRole role);
     int countByProjectAndRole(ProjectEntity project, ProjectRole role);
+
+    // 사용자의 참여 목록 - 프로젝트를 함께 조회
+    @Query("SELECT p FROM ParticipationEntity p JOIN FETCH p.project " +
+            "WHERE p.users = :user AND p.role IN :roles ORDER BY p.id")
+    List<ParticipationEntity> findAllWithProjectByUsersAndRoleIn(@Param("user") UserEntity user, @Param("roles") List<ProjectRole> roles);
+
+    // 여러 프로젝트의 참여자 목록을 한 번에 조회 - 사용자와 프로젝트를 함께 조회
+    @Query("SELECT p FROM ParticipationEntity p JOIN FETCH p.users JOIN FETCH p.project " +
+            "WHERE p.project.id IN :projectIds AND p.role IN :roles ORDER BY p.id")
+    List<ParticipationEntity> findAllWithUsersByProjectIdInAndRoleIn(@Param("projectIds") List<Long> projectIds, @Param("roles") List<ProjectRole> roles);
 }
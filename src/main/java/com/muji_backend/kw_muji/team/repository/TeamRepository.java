@@ -1,13 +1,49 @@
 package com.muji_backend.kw_muji.team.repository;
 
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
-import org.springframework.data.domain.Sort;
+import com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TeamRepository extends JpaRepository<ProjectEntity, Long> {
-    List<ProjectEntity> findAllByIsOnGoing(boolean isOnGoing, Sort sort);
-    List<ProjectEntity> findAllByIsOnGoingTrueAndDeadlineAtLessThan(LocalDateTime date);
+    // 팀플 목록 조회 - 목록에 필요한 컬럼만 조회하고 검색, 정렬, 페이지네이션은 DB에서 처리
+    // 이미지는 썸네일을 사용하고, 썸네일이 없는 이전 이미지는 원본을 사용
+    @Query(value = "SELECT new com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO(p.id, p.name, p.start, p.deadlineAt, COALESCE(p.imageThumbnail, p.image), p.isOnGoing, p.createdAt) " +
+            "FROM ProjectEntity p " +
+            "WHERE :search IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) ESCAPE '!'",
+            countQuery = "SELECT COUNT(p) FROM ProjectEntity p " +
+                    "WHERE :search IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) ESCAPE '!'")
+    Page<ProjectListResponseDTO> findProjectList(@Param("search") String search, Pageable pageable);
+
+    // FULLTEXT(ngram) 검색 - 모집 중인 글 먼저, 각각 관련도 순으로 정렬한 ID 목록
+    @Query(value = "SELECT p.id FROM project p " +
+            "WHERE MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) " +
+            "ORDER BY p.is_on_going DESC, MATCH(p.name) AGAINST(:query IN BOOLEAN MODE) DESC, p.created_at DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM project p WHERE MATCH(p.name) AGAINST(:query IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Long> searchIdsByFullText(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT new com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO(p.id, p.name, p.start, p.deadlineAt, COALESCE(p.imageThumbnail, p.image), p.isOnGoing, p.createdAt) " +
+            "FROM ProjectEntity p WHERE p.id IN :ids")
+    List<ProjectListResponseDTO> findProjectListByIdIn(@Param("ids") List<Long> ids);
+
+    // 커서 기반 팀플 목록 조회 - 모집 여부별로 커서(createdAt, id) 이후의 글을 최신순으로 조회 (COUNT 쿼리 없음)
+    @Query("SELECT new com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO(p.id, p.name, p.start, p.deadlineAt, COALESCE(p.imageThumbnail, p.image), p.isOnGoing, p.createdAt) " +
+            "FROM ProjectEntity p " +
+            "WHERE p.isOnGoing = :onGoing " +
+            "AND (:search IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) ESCAPE '!') " +
+            "AND (:createdAt IS NULL OR p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectListResponseDTO> findProjectListAfter(@Param("onGoing") boolean onGoing,
+                                                      @Param("search") String search,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
 }
@@ -1,11 +1,13 @@
 package com.muji_backend.kw_muji.team.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.muji_backend.kw_muji.calendar.cache.CalendarChangedEvent;
 import com.muji_backend.kw_muji.common.entity.ParticipationEntity;
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import com.muji_backend.kw_muji.common.image.ImageUploader;
+import com.muji_backend.kw_muji.common.image.StoredImage;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
 import com.muji_backend.kw_muji.team.dto.request.ProjectDetailRequestDTO;
 import com.muji_backend.kw_muji.team.dto.request.ProjectStartRequestDTO;
 import com.muji_backend.kw_muji.team.dto.response.ApplicantResponseDTO;
@@ -18,13 +20,12 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.text.SimpleDateFormat;
 import java.util.*;
 
@@ -34,50 +35,42 @@ import java.util.*;
 public class MyTeamService {
     private final RoleRepository roleRepo;
     private final TeamRepository teamRepo;
-    private final AmazonS3 amazonS3;
+    private final ImageUploader imageUploader;
     private final TeamMailSendService teamMailSendService;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.folder.folderName2}")
     private String projectImageBucketFolder;
+    public List<MyProjectResponseDTO> getMyProjects(final UserEntity user) {
+        final List<ProjectRole> roles = List.of(ProjectRole.CREATOR, ProjectRole.MEMBER);
 
-    @Value("${cloud.aws.s3.url}")
-    private String bucketURL;
+        // 내가 생성자 또는 맴버로 참가한 프로젝트 중 시작한 프로젝트
+        final List<ParticipationEntity> participationList = sortByRole(roleRepo.findAllWithProjectByUsersAndRoleIn(user, roles), roles).stream()
+                .filter(participation -> participation.getProject().isStart())
+                .toList();
 
-    public List<MyProjectResponseDTO> getMyProjects(final UserEntity user) {
-        final List<ParticipationEntity> participationList = new ArrayList<>();
-        participationList.addAll(roleRepo.findAllByUsersAndRole(user, ProjectRole.CREATOR)); // 내가 생성자로 참가한 참가자 리스트
-        participationList.addAll(roleRepo.findAllByUsersAndRole(user, ProjectRole.MEMBER)); // 내가 맴버로 참가한 참가자 리스트
+        // 모든 프로젝트의 팀원을 한 번에 조회
+        final Map<Long, List<ParticipationEntity>> membersByProject = findParticipantsByProject(participationList, roles);
 
         return participationList.stream()
-                .filter(participation -> participation.getProject().isStart())
                 .map(list -> {
                     final MyProjectResponseDTO myProjectResponseDTO = new MyProjectResponseDTO();
                     myProjectResponseDTO.setId(list.getProject().getId());
                     myProjectResponseDTO.setName(list.getProject().getName());
 
                     final List<MemberResponseDTO> members = new ArrayList<>();
-                    final List<ParticipationEntity> participations = new ArrayList<>();
-                    participations.addAll(roleRepo.findAllByProjectAndRole(list.getProject(), ProjectRole.CREATOR));
-                    participations.addAll(roleRepo.findAllByProjectAndRole(list.getProject(), ProjectRole.MEMBER));
+                    final List<ParticipationEntity> participations = membersByProject.getOrDefault(list.getProject().getId(), List.of());
 
                     for(ParticipationEntity participation : participations) {
-                        final MemberResponseDTO member;
                         final UserEntity userInfo = participation.getUsers();
-                        try {
-                            member = MemberResponseDTO.builder()
-                                .image(participation.getUsers().getImage() != null ? bucketURL + URLEncoder.encode(userInfo.getImage(), "UTF-8")
-                                        : "")
+                        final MemberResponseDTO member = MemberResponseDTO.builder()
+                                .image(mediaUrlResolver.resolve(thumbnailOf(userInfo)))
                                 .name(userInfo.getName())
                                 .stuNum(userInfo.getStuNum())
                                 .major(userInfo.getMajor())
                                 .email(userInfo.getEmail())
                                 .build();
-                        } catch (UnsupportedEncodingException e) {
-                            throw new RuntimeException(e);
-                        }
                         members.add(member);
                     }
 
@@ -87,7 +80,11 @@ public class MyTeamService {
     }
 
     public List<MyCreatedProjectResponseDTO> getMyCreatedProjects(final UserEntity user) {
-        final List<ParticipationEntity> participationList = roleRepo.findAllByUsersAndRole(user, ProjectRole.CREATOR); // 내가 생성한 프로젝트
+        final List<ParticipationEntity> participationList = roleRepo.findAllWithProjectByUsersAndRoleIn(user, List.of(ProjectRole.CREATOR)); // 내가 생성한 프로젝트
+
+        // 모든 프로젝트의 지원자와 팀원을 한 번에 조회
+        final Map<Long, List<ParticipationEntity>> applicantsByProject =
+                findParticipantsByProject(participationList, List.of(ProjectRole.APPLICANT, ProjectRole.MEMBER));
 
         return participationList.stream().map(list -> {
             final MyCreatedProjectResponseDTO myCreatedProjectResponseDTO = new MyCreatedProjectResponseDTO();
@@ -97,29 +94,18 @@ public class MyTeamService {
             myCreatedProjectResponseDTO.setStart(list.getProject().isStart());
 
             final List<ApplicantResponseDTO> members = new ArrayList<>();
-            final List<ParticipationEntity> applicants = new ArrayList<>();
-            applicants.addAll(roleRepo.findAllByProjectAndRole(list.getProject(), ProjectRole.APPLICANT));
-            applicants.addAll(roleRepo.findAllByProjectAndRole(list.getProject(), ProjectRole.MEMBER));
+            final List<ParticipationEntity> applicants = applicantsByProject.getOrDefault(list.getProject().getId(), List.of());
 
             for(ParticipationEntity applicant : applicants) {
-                final ApplicantResponseDTO member;
                 final UserEntity userInfo = applicant.getUsers();
-                try {
-                    member = ApplicantResponseDTO.builder()
-                            .id(applicant.getId())
-                            .image(userInfo.getImage() != null
-                                    ? bucketURL + URLEncoder.encode(userInfo.getImage(), "UTF-8")
-                                    : "")
-                            .name(userInfo.getName())
-                            .stuNum(userInfo.getStuNum())
-                            .major(userInfo.getMajor())
-                            .resume(applicant.getResumePath() != null
-                                    ? bucketURL + URLEncoder.encode(applicant.getResumePath(), "UTF-8")
-                                    : "")
-                            .build();
-                } catch (UnsupportedEncodingException e) {
-                    throw new RuntimeException(e);
-                }
+                final ApplicantResponseDTO member = ApplicantResponseDTO.builder()
+                        .id(applicant.getId())
+                        .image(mediaUrlResolver.resolve(thumbnailOf(userInfo)))
+                        .name(userInfo.getName())
+                        .stuNum(userInfo.getStuNum())
+                        .major(userInfo.getMajor())
+                        .resume(mediaUrlResolver.resolve(applicant.getResumePath()))
+                        .build();
 
                 members.add(member);
             }
@@ -129,6 +115,36 @@ public class MyTeamService {
         }).toList();
     }
 
+    // 프로젝트별 참여자 목록 (역할 순서 -> 참여 순서로 정렬)
+    private Map<Long, List<ParticipationEntity>> findParticipantsByProject(final List<ParticipationEntity> participationList, final List<ProjectRole> roles) {
+        final List<Long> projectIds = participationList.stream()
+                .map(participation -> participation.getProject().getId())
+                .distinct()
+                .toList();
+
+        if (projectIds.isEmpty())
+            return Map.of();
+
+        final Map<Long, List<ParticipationEntity>> participantsByProject = new HashMap<>();
+        for (ParticipationEntity participation : sortByRole(roleRepo.findAllWithUsersByProjectIdInAndRoleIn(projectIds, roles), roles)) {
+            participantsByProject.computeIfAbsent(participation.getProject().getId(), id -> new ArrayList<>()).add(participation);
+        }
+
+        return participantsByProject;
+    }
+
+    // 목록에는 썸네일을 사용하고, 썸네일이 없는 이전 이미지는 원본을 사용
+    private String thumbnailOf(final UserEntity user) {
+        return user.getImageThumbnail() != null ? user.getImageThumbnail() : user.getImage();
+    }
+
+    // 조회 결과는 참여 순서(id)로 정렬되어 있으므로 역할 순서만 다시 정렬 (stable sort)
+    private List<ParticipationEntity> sortByRole(final List<ParticipationEntity> participations, final List<ProjectRole> roles) {
+        return participations.stream()
+                .sorted(Comparator.comparingInt(participation -> roles.indexOf(participation.getRole())))
+                .toList();
+    }
+
     public void validation(BindingResult bindingResult, String fieldName) {
         if (bindingResult.hasFieldErrors(fieldName))
             throw new IllegalArgumentException(Objects.requireNonNull(bindingResult.getFieldError(fieldName)).getDefaultMessage());
@@ -142,23 +158,40 @@ public class MyTeamService {
             throw new IllegalArgumentException("존재하지 않는 프로젝트");
 
         final ProjectEntity project = teamRepo.findById(projectId).get();
+        final List<Long> memberUserIds = roleRepo.findAllWithUsersByProjectIdInAndRoleIn(List.of(projectId), List.of(ProjectRole.CREATOR, ProjectRole.MEMBER)).stream()
+                .map(participation -> participation.getUsers().getId())
+                .toList();
         teamRepo.delete(project);
+
+        imageUploader.deleteAfterCommit(project.getImage(), project.getImageThumbnail());
+        // 삭제된 팀플이 팀원들의 일정에서 빠지도록 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new CalendarChangedEvent(memberUserIds));
     }
 
     public boolean isMyProject(final Long projectId, final UserEntity user) {
-        return roleRepo.findByProjectIdAndUsers(projectId, user).getRole().equals(ProjectRole.CREATOR);
+        final ParticipationEntity participation = roleRepo.findByProjectIdAndUsers(projectId, user);
+        return participation != null && participation.getRole().equals(ProjectRole.CREATOR);
     }
 
-    public void deleteProjectImage(final Long projectId) {
-        if(teamRepo.findById(projectId).get().getImage() != null) {
-            final String formalS3Key = teamRepo.findById(projectId).get().getImage();
+    // 클라이언트가 저장소에 직접 올린 이미지로 교체 (UploadSessionService에서 권한, 파일 확인 후 호출)
+    @Transactional
+    public void replaceProjectImage(final Long projectId, final StoredImage image) {
+        final ProjectEntity project = teamRepo.findById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로젝트"));
+        final StoredImage previousImage = new StoredImage(project.getImage(), project.getImageThumbnail());
+
+        project.setImage(image.key());
+        project.setImageThumbnail(image.thumbnailKey());
+        deleteReplacedImage(previousImage, project);
+    }
 
-            if(amazonS3.doesObjectExist(bucket, formalS3Key))
-                amazonS3.deleteObject(bucket, formalS3Key);
-        }
+    // 교체되거나 삭제된 프로젝트 이미지(원본, 썸네일)를 저장소에서 삭제 (수정이 반영된 뒤에 호출)
+    public void deleteReplacedImage(final StoredImage previousImage, final ProjectEntity project) {
+        if(previousImage.key() != null && !previousImage.key().equals(project.getImage()))
+            imageUploader.deleteAfterCommit(previousImage.key(), previousImage.thumbnailKey());
     }
 
-    public String uploadProjectImage(final MultipartFile[] files, final String title) throws IOException {
+    public StoredImage uploadProjectImage(final MultipartFile[] files, final String title) throws IOException {
         if(files.length > 1) {
             throw new IllegalArgumentException("프로젝트 이미지가 1개를 초과함");
         }
@@ -181,14 +214,8 @@ public class MyTeamService {
             S3Key = projectImageBucketFolder + fileName[0] + "\\" + title + "\\" + dateFormat.format(time) + ".png";
         }
 
-        final ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(files[0].getSize());
-        metadata.setContentType(files[0].getContentType());
-
-        // 저장
-        amazonS3.putObject(bucket, S3Key, files[0].getInputStream(), metadata);
-
-        return S3Key;
+        // 압축된 원본, 썸네일 저장
+        return imageUploader.upload(S3Key, files[0], files[0].getContentType());
     }
 
     @Transactional
@@ -203,8 +230,10 @@ public class MyTeamService {
 
         if(!isDeleteImage && project.getImage() != null && !project.getImage().isBlank())
             project.setImage(project.getImage());
-        else if(isDeleteImage)
+        else if(isDeleteImage) {
             project.setImage(null);
+            project.setImageThumbnail(null);
+        }
 
         if(dto.getDeadlineAt() != null)
             project.setDeadlineAt(dto.getDeadlineAt().atStartOfDay());
@@ -213,6 +242,7 @@ public class MyTeamService {
     }
 
     public void selectApplicant(final List<Long> memberIdList) {
+        final List<Long> selectedUserIds = new ArrayList<>();
         for (Long memberId : memberIdList) {
             final Optional<ParticipationEntity> applicant = roleRepo.findById(memberId);
 
@@ -226,8 +256,12 @@ public class MyTeamService {
                 applicant.get().setRole(ProjectRole.MEMBER);
 
             roleRepo.save(applicant.get());
+            selectedUserIds.add(applicant.get().getUsers().getId());
             teamMailSendService.joinEmail(applicant.get().getUsers().getEmail(), applicant.get().getProject().getName());
         }
+
+        // 팀원이 된 사용자의 일정에 팀플이 추가되도록 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new CalendarChangedEvent(selectedUserIds));
     }
 
     public void updateStart(final ProjectStartRequestDTO dto) {
@@ -245,5 +279,11 @@ public class MyTeamService {
         project.setOnGoing(false);
 
         teamRepo.save(project);
+
+        // 시작한 팀플이 작성자 일정에도 추가되도록 캐시 무효화 (커밋 후)
+        final List<Long> creatorUserIds = roleRepo.findAllWithUsersByProjectIdInAndRoleIn(List.of(project.getId()), List.of(ProjectRole.CREATOR)).stream()
+                .map(participation -> participation.getUsers().getId())
+                .toList();
+        eventPublisher.publishEvent(new CalendarChangedEvent(creatorUserIds));
     }
 }
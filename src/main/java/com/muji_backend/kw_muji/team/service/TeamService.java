@@ -1,12 +1,15 @@
 package com.muji_backend.kw_muji.team.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.muji_backend.kw_muji.common.entity.ParticipationEntity;
 import com.muji_backend.kw_muji.common.entity.ProjectEntity;
 import com.muji_backend.kw_muji.common.entity.ResumeEntity;
 import com.muji_backend.kw_muji.common.entity.UserEntity;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
+import com.muji_backend.kw_muji.common.image.ImageUploader;
+import com.muji_backend.kw_muji.common.image.StoredImage;
+import com.muji_backend.kw_muji.common.pagination.Cursor;
+import com.muji_backend.kw_muji.common.search.FullTextSearch;
+import com.muji_backend.kw_muji.common.storage.MediaUrlResolver;
 import com.muji_backend.kw_muji.mypage.repository.ResumeRepository;
 import com.muji_backend.kw_muji.team.dto.response.ProjectListResponseDTO;
 import com.muji_backend.kw_muji.team.dto.response.ResumeResponseDTO;
@@ -15,16 +18,17 @@ import com.muji_backend.kw_muji.team.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.text.SimpleDateFormat;
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,13 +39,11 @@ public class TeamService {
     private final TeamRepository projectRepo;
     private final RoleRepository roleRepo;
     private final ResumeRepository resumeRepo;
-    private final AmazonS3 amazonS3;
+    private final ImageUploader imageUploader;
+    private final FullTextSearch fullTextSearch;
+    private final MediaUrlResolver mediaUrlResolver;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    @Value("${cloud.aws.s3.url}")
-    private String bucketURL;
+    private static final int PAGE_SIZE = 8;
 
     @Value("${cloud.aws.s3.folder.folderName2}")
     private String projectImageBucketFolder; // aws에 추가하기
@@ -51,7 +53,7 @@ public class TeamService {
             throw new IllegalArgumentException(Objects.requireNonNull(bindingResult.getFieldError(fieldName)).getDefaultMessage());
     }
 
-    public String uploadProjectImage(final MultipartFile[] files, final String title) throws IOException {
+    public StoredImage uploadProjectImage(final MultipartFile[] files, final String title) throws IOException {
         if(files.length > 1) {
             throw new IllegalArgumentException("프로젝트 이미지가 1개를 초과함");
         }
@@ -73,15 +75,8 @@ public class TeamService {
         } else if (Objects.equals(files[0].getContentType(), "image/png")) {S3Key = projectImageBucketFolder + fileName[0] + "\\" + title + "\\" + dateFormat.format(time) + ".png";
         }
 
-
-        final ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(files[0].getSize());
-        metadata.setContentType(files[0].getContentType());
-
-        // 저장
-        amazonS3.putObject(bucket, S3Key, files[0].getInputStream(), metadata);
-
-        return S3Key;
+        // 압축된 원본, 썸네일 저장
+        return imageUploader.upload(S3Key, files[0], files[0].getContentType());
     }
 
     public void registerProject(ProjectEntity entity) {
@@ -126,50 +121,97 @@ public class TeamService {
     }
 
     public Map<String, Object> getOnGoingProjects(int page, String search) {
-            final List<ProjectEntity> onGoingProjects = projectRepo.findAllByIsOnGoing(true, Sort.by(Sort.Direction.DESC, "createdAt"));
-            final List<ProjectEntity> endedProjects = projectRepo.findAllByIsOnGoing(false, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-            // 두 리스트 합치기
-            List<ProjectEntity> projects = new ArrayList<>();
-            projects.addAll(onGoingProjects);
-            projects.addAll(endedProjects);
-
-            // search 값이 비어 있지 않으면 이름으로 필터링
-            if (search != null && !search.trim().isEmpty()) {
-                String lowerCaseSearch = search.toLowerCase();  // 대소문자 구분 없이 검색
-                projects = projects.stream()
-                        .filter(project -> project.getName().toLowerCase().contains(lowerCaseSearch))
-                        .collect(Collectors.toList());
-            }
-
-            // 전체 페이지 수 계산
-            int totalProjects = projects.size();
-            int totalPages = (int) Math.ceil((double) totalProjects / 8);
-
-            // 수동으로 페이지네이션
-            int start = Math.min(page * 8, projects.size());
-            int end = Math.min((page + 1) * 8, projects.size());
-
-            List<ProjectListResponseDTO> projectDTO = projects.subList(start, end).stream()
-                    .map(project -> {
-                        try {
-                            return ProjectListResponseDTO.builder()
-                                    .id(project.getId())
-                                    .name(project.getName())
-                                    .start(project.isStart())
-                                    .deadlineAt(LocalDate.from(project.getDeadlineAt()))
-                                    .image(project.getImage() != null ? bucketURL + URLEncoder.encode(project.getImage(), "UTF-8") : "")
-                                    .isOnGoing(project.isOnGoing())
-                                    .build();
-                        } catch (UnsupportedEncodingException e) {
-                            throw new RuntimeException(e);
-                        }
-                    })
-                    .toList();
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("projects", projectDTO);
-            response.put("totalPages", totalPages);
-            return response;
+        // 검색어가 있으면 FULLTEXT 인덱스로 검색
+        final String query = fullTextSearch.toQuery(search);
+        if (query != null) {
+            return searchProjects(page, query);
+        }
+
+        // 모집 중인 글 먼저, 각각 최신순으로 정렬
+        final Pageable pageable = PageRequest.of(page, PAGE_SIZE,
+                Sort.by(Sort.Order.desc("isOnGoing"), Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+
+        final Page<ProjectListResponseDTO> projects = projectRepo.findProjectList(toKeyword(search), pageable);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("projects", withImageUrl(projects.getContent()));
+        response.put("totalPages", projects.getTotalPages());
+        return response;
+    }
+
+    public Map<String, Object> getOnGoingProjectsByCursor(String cursor, String search) {
+        final Cursor after = Cursor.decode(cursor);
+        // 모집 여부가 없는 커서(설문 목록 커서 등)는 어느 목록에서 이어갈지 알 수 없으므로 거부
+        if (after != null && after.getOnGoing() == null)
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+
+        final String keyword = toKeyword(search);
+
+        // 모집 중인 글을 모두 보여준 뒤 마감된 글을 이어서 조회
+        // 다음 페이지 존재 여부를 확인하기 위해 한 개 더 조회
+        final List<ProjectListResponseDTO> projects = new ArrayList<>();
+        if (after == null || Boolean.TRUE.equals(after.getOnGoing())) {
+            projects.addAll(projectRepo.findProjectListAfter(true, keyword,
+                    after != null ? after.getCreatedAt() : null,
+                    after != null ? after.getId() : null,
+                    Limit.of(PAGE_SIZE + 1)));
+        }
+        if (projects.size() <= PAGE_SIZE) {
+            final boolean continueEnded = after != null && Boolean.FALSE.equals(after.getOnGoing());
+            projects.addAll(projectRepo.findProjectListAfter(false, keyword,
+                    continueEnded ? after.getCreatedAt() : null,
+                    continueEnded ? after.getId() : null,
+                    Limit.of(PAGE_SIZE + 1 - projects.size())));
+        }
+
+        final boolean hasNext = projects.size() > PAGE_SIZE;
+        final List<ProjectListResponseDTO> content = hasNext ? projects.subList(0, PAGE_SIZE) : projects;
+
+        String nextCursor = null;
+        if (hasNext) {
+            final ProjectListResponseDTO last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.isOnGoing(), last.getCreatedAt(), last.getId()).encode();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("projects", withImageUrl(content));
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", hasNext);
+        return response;
+    }
+
+    // 관련도 순으로 조회한 ID 순서대로 목록 구성
+    private Map<String, Object> searchProjects(int page, String query) {
+        final Page<Long> ids = projectRepo.searchIdsByFullText(query, PageRequest.of(page, PAGE_SIZE));
+
+        final Map<Long, ProjectListResponseDTO> projectById = ids.isEmpty()
+                ? Map.of()
+                : projectRepo.findProjectListByIdIn(ids.getContent()).stream()
+                        .collect(Collectors.toMap(ProjectListResponseDTO::getId, project -> project));
+        final List<ProjectListResponseDTO> projects = ids.getContent().stream()
+                .map(projectById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("projects", withImageUrl(projects));
+        response.put("totalPages", ids.getTotalPages());
+        return response;
+    }
+
+    // search 값이 비어 있지 않으면 이름으로 필터링 (LIKE 와일드카드 문자는 일반 문자로 취급)
+    private String toKeyword(String search) {
+        return (search != null && !search.trim().isEmpty())
+                ? search.replace("!", "!!").replace("%", "!%").replace("_", "!_")
+                : null;
+    }
+
+    private List<ProjectListResponseDTO> withImageUrl(List<ProjectListResponseDTO> projects) {
+        return projects.stream()
+                .map(project -> {
+                    project.setImage(mediaUrlResolver.resolve(project.getImage()));
+                    return project;
+                })
+                .toList();
     }
 }
@@ -0,0 +1,48 @@
+package com.muji_backend.kw_muji.upload.controller;
+
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.upload.dto.request.UploadSessionRequestDTO;
+import com.muji_backend.kw_muji.upload.dto.response.UploadSessionResponseDTO;
+import com.muji_backend.kw_muji.upload.service.UploadSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/upload")
+public class UploadController {
+    private final UploadSessionService uploadSessionService;
+
+    @PostMapping("/session")
+    public ResponseEntity<Map<String, Object>> createSession(@AuthenticationPrincipal UserEntity userInfo, @RequestBody UploadSessionRequestDTO dto) {
+        try {
+            final UploadSessionResponseDTO resDTO = uploadSessionService.createSession(userInfo, dto);
+
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", resDTO));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "data", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "data", "업로드 준비 오류. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    @PostMapping("/session/{sessionId}/complete")
+    public ResponseEntity<Map<String, Object>> completeSession(@AuthenticationPrincipal UserEntity userInfo, @PathVariable String sessionId) {
+        try {
+            uploadSessionService.complete(userInfo, sessionId);
+
+            return ResponseEntity.ok().body(Map.of("code", 200, "data", true));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("code", 400, "data", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(500).body(Map.of("code", 500, "data", "업로드 완료 처리 오류. 잠시 후 다시 시도해주세요."));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.muji_backend.kw_muji.upload.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionRequestDTO {
+    private UploadPurpose purpose;
+    private String fileName; // 원본 파일명 (포트폴리오 이름으로 사용)
+    private String contentType;
+    private long size; // 파일 크기(byte)
+    private Long projectId; // PROJECT_IMAGE인 경우 대상 프로젝트 id
+
+    public enum UploadPurpose {
+        RESUME, // 포트폴리오 (PDF)
+        PROJECT_IMAGE, // 팀 프로젝트 이미지
+        USER_IMAGE // 프로필 이미지
+    }
+}
@@ -0,0 +1,24 @@
+package com.muji_backend.kw_muji.upload.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UploadSessionResponseDTO {
+    private String sessionId;
+
+    private String uploadUrl; // PUT으로 파일을 올릴 URL
+
+    private String contentType; // 업로드 요청의 Content-Type 헤더로 그대로 사용
+
+    private long maxSize;
+
+    private LocalDateTime expiresAt;
+}
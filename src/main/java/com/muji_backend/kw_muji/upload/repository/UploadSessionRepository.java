@@ -0,0 +1,72 @@
+package com.muji_backend.kw_muji.upload.repository;
+
+import com.muji_backend.kw_muji.upload.dto.request.UploadSessionRequestDTO.UploadPurpose;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업로드 세션 저장소 (Redis hash: upload:session:{id})
+ * 세션은 업로드 URL 유효시간이 지나면 만료되며, 완료 처리는 claim()으로 한 번만 진행
+ * stagingKey는 클라이언트가 올리는 임시 키, key는 완료 처리 후 서버가 복사해 두는 최종 키
+ */
+@Repository
+@RequiredArgsConstructor
+public class UploadSessionRepository {
+
+    private static final String KEY_PREFIX = "upload:session:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(final UploadSession session, final Duration ttl) {
+        final Map<String, String> fields = new HashMap<>();
+        fields.put("userId", String.valueOf(session.userId()));
+        fields.put("purpose", session.purpose().name());
+        fields.put("key", session.key());
+        fields.put("stagingKey", session.stagingKey());
+        fields.put("contentType", session.contentType());
+        fields.put("fileName", session.fileName());
+        fields.put("maxSize", String.valueOf(session.maxSize()));
+        if (session.projectId() != null)
+            fields.put("projectId", String.valueOf(session.projectId()));
+
+        final String key = KEY_PREFIX + session.id();
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+
+    public Optional<UploadSession> find(final String id) {
+        final Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + id);
+        if (fields.isEmpty())
+            return Optional.empty();
+
+        final Object projectId = fields.get("projectId");
+        return Optional.of(new UploadSession(
+                id,
+                Long.valueOf((String) fields.get("userId")),
+                UploadPurpose.valueOf((String) fields.get("purpose")),
+                (String) fields.get("key"),
+                (String) fields.get("stagingKey"),
+                (String) fields.get("contentType"),
+                (String) fields.get("fileName"),
+                Long.parseLong((String) fields.get("maxSize")),
+                projectId != null ? Long.valueOf((String) projectId) : null));
+    }
+
+    /**
+     * 세션을 삭제하면서 완료 처리 권한을 얻는 메서드
+     * 같은 세션으로 동시에 완료를 요청해도 한 요청만 true를 받음
+     */
+    public boolean claim(final String id) {
+        return Boolean.TRUE.equals(redisTemplate.delete(KEY_PREFIX + id));
+    }
+
+    public record UploadSession(String id, Long userId, UploadPurpose purpose, String key, String stagingKey,
+                                String contentType, String fileName, long maxSize, Long projectId) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.muji_backend.kw_muji.upload.scheduling;
+
+import com.muji_backend.kw_muji.upload.service.UploadSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadScheduledTask {
+
+    private final UploadSessionService uploadSessionService;
+
+    /**
+     * 업로드 URL만 발급받고 완료하지 않은 임시 파일을 주기적으로 삭제
+     * 여러 서버에서 동시에 실행되어도 같은 파일을 삭제할 뿐이므로 결과는 같음
+     */
+    @Scheduled(fixedDelayString = "${upload.staging.sweep-interval-ms:3600000}")
+    public void deleteExpiredStaging() {
+        try {
+            int deleted = uploadSessionService.deleteExpiredStaging();
+            if (deleted > 0) {
+                log.info("완료되지 않은 업로드 파일 삭제 - {}건", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("완료되지 않은 업로드 파일 삭제 실패 - message: {}", e.getMessage());
+        }
+    }
+}
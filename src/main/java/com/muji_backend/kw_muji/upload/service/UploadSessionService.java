@@ -0,0 +1,205 @@
+package com.muji_backend.kw_muji.upload.service;
+
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.image.ImageUploader;
+import com.muji_backend.kw_muji.common.image.StoredImage;
+import com.muji_backend.kw_muji.common.storage.ObjectStorage;
+import com.muji_backend.kw_muji.common.storage.StoredObject;
+import com.muji_backend.kw_muji.mypage.service.MypageService;
+import com.muji_backend.kw_muji.mypage.service.ResumeService;
+import com.muji_backend.kw_muji.team.service.MyTeamService;
+import com.muji_backend.kw_muji.upload.dto.request.UploadSessionRequestDTO;
+import com.muji_backend.kw_muji.upload.dto.request.UploadSessionRequestDTO.UploadPurpose;
+import com.muji_backend.kw_muji.upload.dto.response.UploadSessionResponseDTO;
+import com.muji_backend.kw_muji.upload.repository.UploadSessionRepository;
+import com.muji_backend.kw_muji.upload.repository.UploadSessionRepository.UploadSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 클라이언트가 서버를 거치지 않고 저장소(S3)에 직접 파일을 올리는 업로드 세션
+ * 1. 세션 생성: 파일 종류, 크기를 확인하고 임시(staging) 키에 대한 Content-Type이 고정된 PUT URL 발급
+ * 2. 클라이언트가 URL로 직접 업로드
+ * 3. 완료 처리: 임시 파일을 클라이언트가 쓸 수 없는 최종 키로 복사하고, 복사본의 크기, Content-Type을 확인한 뒤
+ *    포트폴리오/프로젝트/프로필에 반영 (이미지는 썸네일 생성), 임시 파일은 삭제
+ *    - 업로드 URL은 유효시간 동안 계속 쓸 수 있으므로 확인을 마친 파일이 나중에 덮어써지지 않도록 복사본만 사용
+ * 완료되지 않은 임시 파일은 UploadScheduledTask가 주기적으로 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+    private final UploadSessionRepository uploadSessionRepo;
+    private final ObjectStorage objectStorage;
+    private final ImageUploader imageUploader;
+    private final ResumeService resumeService;
+    private final MyTeamService myTeamService;
+    private final MypageService mypageService;
+
+    @Value("${cloud.aws.s3.folder.folderName1}")
+    private String userImageBucketFolder;
+
+    @Value("${cloud.aws.s3.folder.folderName2}")
+    private String projectImageBucketFolder;
+
+    @Value("${cloud.aws.s3.folder.folderName3}")
+    private String resumeBucketFolder;
+
+    @Value("${upload.staging-prefix:upload/staging/}")
+    private String stagingPrefix;
+
+    @Value("${upload.session.url-expiry-seconds:600}")
+    private long urlExpirySeconds;
+
+    @Value("${upload.max-image-bytes:10485760}")
+    private long maxImageBytes;
+
+    @Value("${upload.max-resume-bytes:20971520}")
+    private long maxResumeBytes;
+
+    /**
+     * 업로드 세션을 만들고 업로드 URL을 발급하는 메서드
+     *
+     * @param user 로그인한 사용자
+     * @param dto  업로드할 파일 정보
+     * @return 세션 id와 업로드 URL
+     */
+    public UploadSessionResponseDTO createSession(final UserEntity user, final UploadSessionRequestDTO dto) {
+        if (dto.getPurpose() == null)
+            throw new IllegalArgumentException("업로드 종류를 선택해주세요");
+
+        final long maxSize = dto.getPurpose() == UploadPurpose.RESUME ? maxResumeBytes : maxImageBytes;
+        if (dto.getSize() <= 0 || dto.getSize() > maxSize)
+            throw new IllegalArgumentException("파일 크기를 확인해주세요");
+
+        final String extension = extensionOf(dto.getPurpose(), dto.getContentType());
+        checkTarget(user, dto.getPurpose(), dto.getProjectId());
+
+        final String sessionId = UUID.randomUUID().toString();
+        final String key = folderOf(dto.getPurpose()) + UUID.randomUUID() + extension;
+        final String stagingKey = stagingPrefix + sessionId + extension;
+        final Duration expiry = Duration.ofSeconds(urlExpirySeconds);
+
+        final String uploadUrl = objectStorage.presignUpload(stagingKey, dto.getContentType(), expiry).toString();
+        uploadSessionRepo.save(new UploadSession(sessionId, user.getId(), dto.getPurpose(), key, stagingKey, dto.getContentType(),
+                        dto.getFileName() != null ? dto.getFileName() : "", maxSize, dto.getProjectId()),
+                sessionTtl());
+
+        return UploadSessionResponseDTO.builder()
+                .sessionId(sessionId)
+                .uploadUrl(uploadUrl)
+                .contentType(dto.getContentType())
+                .maxSize(maxSize)
+                .expiresAt(LocalDateTime.now(ZoneId.of("Asia/Seoul")).plus(expiry))
+                .build();
+    }
+
+    /**
+     * 업로드 완료를 처리하는 메서드
+     * 파일이 아직 없으면 세션을 유지해서 다시 요청할 수 있고, 조건에 맞지 않는 파일은 삭제
+     * 확인과 반영은 최종 키로 복사한 파일로 하므로, 그 사이 임시 파일이 덮어써져도 영향 없음
+     *
+     * @param user      로그인한 사용자
+     * @param sessionId 업로드 세션 id
+     */
+    public void complete(final UserEntity user, final String sessionId) throws IOException {
+        final UploadSession session = uploadSessionRepo.find(sessionId)
+                .filter(found -> Objects.equals(found.userId(), user.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("만료되었거나 존재하지 않는 업로드입니다."));
+
+        if (objectStorage.find(session.stagingKey()).isEmpty())
+            throw new IllegalArgumentException("업로드된 파일이 없습니다.");
+
+        if (!uploadSessionRepo.claim(sessionId))
+            throw new IllegalArgumentException("이미 처리된 업로드입니다.");
+
+        try {
+            objectStorage.copy(session.stagingKey(), session.key());
+            final StoredObject object = objectStorage.find(session.key())
+                    .orElseThrow(() -> new IllegalArgumentException("업로드된 파일이 없습니다."));
+
+            if (object.size() > session.maxSize() || !session.contentType().equals(object.contentType()))
+                throw new IllegalArgumentException("업로드된 파일의 크기 또는 형식을 확인해주세요");
+
+            apply(user, session);
+        } catch (IllegalArgumentException | IOException e) {
+            objectStorage.deleteAfterCommit(session.key()); // 반영되지 않은 파일은 남기지 않음
+            throw e;
+        } finally {
+            objectStorage.deleteAfterCommit(session.stagingKey());
+        }
+    }
+
+    /**
+     * 완료되지 않은 임시 업로드 파일을 삭제하는 메서드
+     * 세션이 만료된 뒤에는 완료할 수 없으므로, 세션 유지 시간의 두 배가 지난 파일을 삭제
+     *
+     * @return 삭제한 파일 수
+     */
+    public int deleteExpiredStaging() {
+        return objectStorage.deleteOlderThan(stagingPrefix, Instant.now().minus(sessionTtl().multipliedBy(2)));
+    }
+
+    // == Private Methods ==
+
+    // 업로드 URL 유효시간 + 업로드가 끝난 뒤 완료 요청까지 여유 시간
+    private Duration sessionTtl() {
+        return Duration.ofSeconds(urlExpirySeconds).plusMinutes(5);
+    }
+
+    private void apply(final UserEntity user, final UploadSession session) throws IOException {
+        switch (session.purpose()) {
+            case RESUME -> resumeService.registerUploadedResume(
+                    mypageService.originalUser(user.getEmail()), session.fileName(), session.key());
+            case PROJECT_IMAGE -> {
+                checkTarget(user, UploadPurpose.PROJECT_IMAGE, session.projectId());
+                final StoredImage image = imageUploader.processUploaded(session.key(), session.contentType());
+                myTeamService.replaceProjectImage(session.projectId(), image);
+            }
+            case USER_IMAGE -> {
+                final StoredImage image = imageUploader.processUploaded(session.key(), session.contentType());
+                mypageService.replaceUserImage(user.getEmail(), image);
+            }
+        }
+    }
+
+    private void checkTarget(final UserEntity user, final UploadPurpose purpose, final Long projectId) {
+        if (purpose == UploadPurpose.RESUME && !resumeService.checkResumeCount(user))
+            throw new IllegalArgumentException("포트폴리오는 3개까지만 등록 가능");
+
+        if (purpose == UploadPurpose.PROJECT_IMAGE && (projectId == null || !myTeamService.isMyProject(projectId, user)))
+            throw new IllegalArgumentException("권한이 없습니다.");
+    }
+
+    private String extensionOf(final UploadPurpose purpose, final String contentType) {
+        if (purpose == UploadPurpose.RESUME) {
+            if (!Objects.equals(contentType, "application/pdf"))
+                throw new IllegalArgumentException("PDF가 아님");
+            return ".pdf";
+        }
+
+        if (Objects.equals(contentType, "image/jpeg"))
+            return ".jpg";
+        if (Objects.equals(contentType, "image/png"))
+            return ".png";
+        throw new IllegalArgumentException("이미지의 타입을 확인해주세요");
+    }
+
+    private String folderOf(final UploadPurpose purpose) {
+        return switch (purpose) {
+            case RESUME -> resumeBucketFolder;
+            case PROJECT_IMAGE -> projectImageBucketFolder;
+            case USER_IMAGE -> userImageBucketFolder;
+        };
+    }
+}
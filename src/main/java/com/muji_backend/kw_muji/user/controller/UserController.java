@@ -8,7 +8,6 @@ import com.muji_backend.kw_muji.user.dto.request.*;
 import com.muji_backend.kw_muji.user.dto.response.TokenDTO;
 import com.muji_backend.kw_muji.user.dto.response.UserResponseDTO;
 import com.muji_backend.kw_muji.user.service.MailSendService;
-import com.muji_backend.kw_muji.user.service.RedisService;
 import com.muji_backend.kw_muji.user.service.UserService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -38,7 +37,6 @@ import java.util.UUID;
 public class UserController {
     private final MailSendService mailSendService;
     private final UserService userService;
-    private final RedisService redisService;
     private final TokenProvider tokenProvider;
     private final JwtProperties jwtProperties;
 
@@ -59,8 +57,8 @@ public class UserController {
             if (!dto.getPassword().equals(dto.getConfirmPassword()))
                 throw new IllegalArgumentException("비밀번호가 일치하지 않음");
 
-            // 인증번호 확인
-            if (!mailSendService.CheckAuthNum(dto.getEmail(), dto.getAuthNum()))
+            // 인증번호 확인 (일치하면 바로 폐기)
+            if (!mailSendService.consumeAuthNum(dto.getEmail(), dto.getAuthNum()))
                 throw new IllegalArgumentException("인증번호가 일치하지 않음");
 
             UserEntity user = UserEntity.builder()
@@ -73,7 +71,6 @@ public class UserController {
                     .build();
 
             userService.createUser(user);
-            redisService.deleteData(dto.getAuthNum());
 
             return ResponseEntity.ok().body(Map.of("code", 200, "data", true));
         } catch (IllegalArgumentException e) {
@@ -148,11 +145,10 @@ public class UserController {
     @PostMapping("/findPw")
     public ResponseEntity<Map<String, Object>> findPassword(@RequestBody AuthNumRequestDTO dto) {
         try {
-            // 인증번호 확인
-            if (!mailSendService.CheckAuthNum(dto.getEmail(), dto.getAuthNum()))
+            // 인증번호 확인 (일치하면 바로 폐기)
+            if (!mailSendService.consumeAuthNum(dto.getEmail(), dto.getAuthNum()))
                 throw new IllegalArgumentException("인증번호가 일치하지 않음");
 
-            redisService.deleteData(dto.getAuthNum());
             return ResponseEntity.ok().body(Map.of("code", 200, "data", true));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of("code", 400, "data", e.getMessage()));
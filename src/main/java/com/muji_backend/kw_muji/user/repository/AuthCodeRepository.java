@@ -0,0 +1,134 @@
+package com.muji_backend.kw_muji.user.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 이메일 인증번호 저장소 (Redis)
+ * 인증번호는 이메일 단위로 저장하며(auth:code:{email} hash - code, attempts), 발급/확인은 Lua 스크립트로 한 번에 처리
+ * - 발급: 재발송 제한(auth:throttle:{email})을 확인하고 인증번호와 실패 횟수를 초기화
+ * - 확인: 일치하면 (필요 시) 삭제, 틀리면 실패 횟수를 올리고 최대 횟수에 도달하면 인증번호를 폐기
+ */
+@Slf4j
+@Repository
+public class AuthCodeRepository {
+
+    private static final String CODE_KEY_PREFIX = "auth:code:";
+    private static final String THROTTLE_KEY_PREFIX = "auth:throttle:";
+
+    // KEYS[1]: 인증번호 hash, KEYS[2]: 재발송 제한 키 / ARGV[1]: 인증번호, ARGV[2]: 유효시간(초), ARGV[3]: 재발송 간격(초)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[2], '1', 'EX', ARGV[3], 'NX') == false then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0)
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]: 인증번호 hash / ARGV[1]: 입력한 인증번호, ARGV[2]: 최대 실패 횟수, ARGV[3]: 일치 시 삭제 여부(1/0)
+    // 반환: 1 일치, 0 불일치, -1 인증번호 없음(만료, 폐기)
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local code = redis.call('HGET', KEYS[1], 'code')
+            if code == false then
+                return -1
+            end
+            if code == ARGV[1] then
+                if ARGV[3] == '1' then
+                    redis.call('DEL', KEYS[1])
+                end
+                return 1
+            end
+            if redis.call('HINCRBY', KEYS[1], 'attempts', 1) >= tonumber(ARGV[2]) then
+                redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long codeTtlSeconds;
+    private final long resendIntervalSeconds;
+    private final int maxAttempts;
+
+    public AuthCodeRepository(StringRedisTemplate redisTemplate,
+                              @Value("${auth.code.ttl-seconds:300}") long codeTtlSeconds,
+                              @Value("${auth.code.resend-interval-seconds:60}") long resendIntervalSeconds,
+                              @Value("${auth.code.max-attempts:5}") int maxAttempts) {
+        this.redisTemplate = redisTemplate;
+        this.codeTtlSeconds = codeTtlSeconds;
+        this.resendIntervalSeconds = resendIntervalSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 인증번호를 발급(저장)하는 메서드
+     * 같은 이메일로 재발송 간격 안에 다시 요청하면 저장하지 않음
+     *
+     * @param email 이메일
+     * @param code  인증번호
+     * @return 저장 여부 (재발송 제한에 걸리면 false)
+     */
+    public boolean issue(String email, String code) {
+        String key = normalize(email);
+        Long result = redisTemplate.execute(ISSUE_SCRIPT, List.of(CODE_KEY_PREFIX + key, THROTTLE_KEY_PREFIX + key),
+                code, String.valueOf(codeTtlSeconds), String.valueOf(resendIntervalSeconds));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 발급한 인증번호와 재발송 제한을 함께 지우는 메서드
+     * 메일을 보내지 못했을 때 사용자가 바로 다시 요청할 수 있도록 함
+     *
+     * @param email 이메일
+     */
+    public void release(String email) {
+        String key = normalize(email);
+        redisTemplate.delete(List.of(CODE_KEY_PREFIX + key, THROTTLE_KEY_PREFIX + key));
+    }
+
+    /**
+     * 인증번호를 확인하는 메서드 (삭제하지 않음)
+     *
+     * @param email 이메일
+     * @param code  입력한 인증번호
+     * @return 일치 여부
+     */
+    public boolean verify(String email, String code) {
+        return verify(email, code, false);
+    }
+
+    /**
+     * 인증번호를 확인하고, 일치하면 바로 삭제하는 메서드 (한 번만 사용 가능)
+     *
+     * @param email 이메일
+     * @param code  입력한 인증번호
+     * @return 일치 여부
+     */
+    public boolean verifyAndConsume(String email, String code) {
+        return verify(email, code, true);
+    }
+
+    // == Private Methods ==
+
+    private boolean verify(String email, String code, boolean consume) {
+        if (email == null || code == null) {
+            return false;
+        }
+
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(CODE_KEY_PREFIX + normalize(email)),
+                code, String.valueOf(maxAttempts), consume ? "1" : "0");
+        return result != null && result == 1L;
+    }
+
+    // 대소문자만 다른 이메일은 같은 사용자로 취급
+    private String normalize(String email) {
+        return email.trim().toLowerCase();
+    }
+}
@@ -1,7 +1,12 @@
 package com.muji_backend.kw_muji.user.repository;
 
 import com.muji_backend.kw_muji.common.entity.UserEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +16,22 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Boolean existsByEmail(String email);
 
     UserEntity findByEmail(String email);
+
+    // 캘린더 피드 토큰 nonce만 조회 (피드 요청마다 호출되므로 엔티티 전체를 읽지 않음)
+    @Query("SELECT u.calendarFeedNonce FROM UserEntity u WHERE u.id = :id")
+    Optional<String> findCalendarFeedNonceById(@Param("id") Long id);
+
+    // nonce가 없을 때만 저장 - 동시에 처음 발급해도 한 값만 남음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.calendarFeedNonce = :nonce WHERE u.id = :id AND u.calendarFeedNonce IS NULL")
+    int initCalendarFeedNonce(@Param("id") Long id, @Param("nonce") String nonce);
+
+    // 잠금 조회 - 트랜잭션의 스냅샷이 아닌 최신 커밋 값을 읽음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UserEntity u WHERE u.id = :id")
+    Optional<UserEntity> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.calendarFeedNonce = :nonce WHERE u.id = :id")
+    int updateCalendarFeedNonce(@Param("id") Long id, @Param("nonce") String nonce);
 }
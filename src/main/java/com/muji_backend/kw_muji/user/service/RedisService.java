@@ -2,11 +2,19 @@ package com.muji_backend.kw_muji.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -19,7 +27,8 @@ public class RedisService {
             ValueOperations<String,String> valueOperations=redisTemplate.opsForValue();
             return valueOperations.get(key);
         } catch(Exception e){
-            return "redis get 문제 발생";
+            log.warn("redis get 문제 발생 - key: {}, message: {}", key, e.getMessage());
+            return null;
         }
     }
 
@@ -36,4 +45,72 @@ public class RedisService {
     public void deleteData(String key) {
         redisTemplate.delete(key);
     }
+
+    /**
+     * 여러 키를 한 번에 조회하는 메서드 (MGET)
+     *
+     * @param keys 조회할 키 목록
+     * @return 키 순서대로의 값 목록 (없는 키는 null), Redis 오류 시 모두 null
+     */
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null) {
+                return values;
+            }
+        } catch (Exception e) {
+            log.warn("redis multiGet 문제 발생 - keys: {}, message: {}", keys.size(), e.getMessage());
+        }
+        return new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    /**
+     * 여러 키를 같은 만료 시간으로 한 번에 저장하는 메서드 (파이프라인으로 SET EX를 묶어서 전송)
+     *
+     * @param values   저장할 키와 값
+     * @param duration 만료 시간(초)
+     */
+    public void multiSetExpire(Map<String, String> values, long duration) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        pipelined(connection -> values.forEach((key, value) -> connection.setEx(key, duration, value)));
+    }
+
+    /**
+     * 여러 명령을 하나의 파이프라인으로 묶어서 전송하는 메서드
+     * 콜백 안에서 실행한 명령의 결과는 바로 받을 수 없고, 반환 목록에 순서대로 담김
+     *
+     * @param commands 실행할 명령
+     * @return 명령 순서대로의 결과 목록, Redis 오류 시 빈 목록
+     */
+    public List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        try {
+            return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                commands.accept((StringRedisConnection) connection);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("redis pipeline 문제 발생 - message: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Lua 스크립트를 실행하는 메서드 (스크립트 SHA로 EVALSHA, 캐시에 없으면 EVAL)
+     * 여러 키에 대한 확인과 변경을 원자적으로 처리해야 할 때 사용
+     *
+     * @param script 실행할 스크립트
+     * @param keys   KEYS 인자
+     * @param args   ARGV 인자
+     * @return 스크립트 결과
+     */
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
 }
@@ -0,0 +1,219 @@
+package com.muji_backend.kw_muji.calendar.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.muji_backend.kw_muji.calendar.dto.response.CalendarResponseDto;
+import com.muji_backend.kw_muji.user.service.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 일정 캐시 무효화 테스트
+ * Redis는 메모리 Map으로 대신하고, 두 개의 CalendarCache로 서버 두 대를 흉내냄 (serverA만 이벤트 수신)
+ */
+class CalendarCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2024, 9);
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final List<CalendarCache> servers = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private CalendarCache serverA;
+    private CalendarCache serverB;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = fakeRedisTemplate();
+        RedisService redisService = fakeRedisService();
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(TransactionConfig.class);
+        context.registerBean(CalendarCache.class, () -> newCache(redisTemplate, redisService));
+        context.refresh();
+
+        serverA = context.getBean(CalendarCache.class);
+        serverB = newCache(redisTemplate, redisService);
+        servers.addAll(List.of(serverA, serverB));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @DisplayName("커밋된 일정 변경 이벤트는 모든 서버의 로컬 캐시와 Redis 캐시를 무효화한다.")
+    @Test
+    void 커밋된_일정_변경_이벤트는_로컬과_Redis_캐시를_모두_무효화한다() {
+        assertEquals("v1", name(serverA.get(USER_ID, MONTH, loader()))); // DB
+        assertEquals("v1", name(serverA.get(USER_ID, MONTH, loader()))); // 로컬
+        assertEquals("v1", name(serverB.get(USER_ID, MONTH, loader()))); // Redis
+        assertEquals(1, loads.get());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new CalendarChangedEvent(List.of(USER_ID)));
+            assertEquals("v1", name(serverA.get(USER_ID, MONTH, loader()))); // 커밋 전에는 그대로
+        });
+
+        // serverB는 로컬과 Redis 모두 이전 값을 쓰지 않고 DB에서 다시 조회
+        assertEquals("v2", name(serverB.get(USER_ID, MONTH, loader())));
+        // serverA는 로컬의 이전 값 대신 serverB가 새로 저장한 Redis 값을 사용
+        assertEquals("v2", name(serverA.get(USER_ID, MONTH, loader())));
+        assertEquals(2, loads.get());
+    }
+
+    @DisplayName("롤백된 트랜잭션의 일정 변경 이벤트는 캐시를 무효화하지 않는다.")
+    @Test
+    void 롤백된_일정_변경_이벤트는_캐시를_무효화하지_않는다() {
+        serverA.get(USER_ID, MONTH, loader());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new CalendarChangedEvent(List.of(USER_ID)));
+            status.setRollbackOnly();
+        });
+
+        assertEquals("v1", name(serverA.get(USER_ID, MONTH, loader())));
+        assertEquals("v1", name(serverB.get(USER_ID, MONTH, loader())));
+        assertEquals(1, loads.get());
+    }
+
+    @DisplayName("DB 조회 도중 일정이 바뀌면 조회한 값을 캐시에 저장하지 않는다.")
+    @Test
+    void 조회_도중_일정이_바뀌면_캐시에_저장하지_않는다() {
+        CalendarResponseDto stale = serverA.get(USER_ID, MONTH, () -> {
+            context.publishEvent(new CalendarChangedEvent(List.of(USER_ID))); // 트랜잭션 밖이므로 바로 처리
+            return calendar("stale");
+        });
+        assertEquals("stale", name(stale));
+
+        assertEquals("v1", name(serverA.get(USER_ID, MONTH, loader())));
+        assertEquals("v1", name(serverB.get(USER_ID, MONTH, loader())));
+        assertEquals(1, loads.get());
+    }
+
+    // == Private Methods ==
+
+    private Supplier<CalendarResponseDto> loader() {
+        return () -> calendar("v" + loads.incrementAndGet());
+    }
+
+    private CalendarResponseDto calendar(String name) {
+        return CalendarResponseDto.builder()
+                .projects(List.of(new CalendarResponseDto.ProjectDto(1L, name)))
+                .events(new CalendarResponseDto.EventGroup(List.of(), List.of(), List.of()))
+                .build();
+    }
+
+    private String name(CalendarResponseDto calendar) {
+        return calendar.getProjects().get(0).getName();
+    }
+
+    private CalendarCache newCache(StringRedisTemplate redisTemplate, RedisService redisService) {
+        return new CalendarCache(redisTemplate, redisService, new ObjectMapper().findAndRegisterModules(),
+                mock(RedisMessageListenerContainer.class), 60, 100, 600);
+    }
+
+    // GET/SET은 Map에, 발행한 메시지는 모든 서버의 onMessage로 바로 전달
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate fakeRedisTemplate() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+            Message message = new DefaultMessage(
+                    invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8),
+                    invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            servers.forEach(server -> server.onMessage(message, null));
+            return (long) servers.size();
+        });
+        return redisTemplate;
+    }
+
+    // 파이프라인의 INCR을 Map에 반영하고 결과를 순서대로 반환
+    @SuppressWarnings("unchecked")
+    private RedisService fakeRedisService() {
+        List<Object> results = new ArrayList<>();
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(connection.incr(anyString())).thenAnswer(invocation -> {
+            long value = Long.parseLong(redis.merge(invocation.getArgument(0), "1",
+                    (current, one) -> String.valueOf(Long.parseLong(current) + 1)));
+            results.add(value);
+            return null; // 파이프라인 안에서는 결과를 바로 받을 수 없음
+        });
+
+        RedisService redisService = mock(RedisService.class);
+        when(redisService.pipelined(any())).thenAnswer(invocation -> {
+            results.clear();
+            invocation.<Consumer<StringRedisConnection>>getArgument(0).accept(connection);
+            return new ArrayList<>(results);
+        });
+        return redisService;
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+
+        // 실제 자원 없이 커밋/롤백 시점의 동기화만 실행하는 트랜잭션 매니저
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
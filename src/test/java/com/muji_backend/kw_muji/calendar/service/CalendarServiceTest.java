@@ -1,8 +1,10 @@
 package com.muji_backend.kw_muji.calendar.service;
 
+import com.muji_backend.kw_muji.calendar.cache.CalendarCache;
 import com.muji_backend.kw_muji.calendar.repository.ParticipationRepository;
 import com.muji_backend.kw_muji.calendar.repository.ProjectRepository;
 import com.muji_backend.kw_muji.calendar.repository.UserCalendarRepository;
+import com.muji_backend.kw_muji.calendar.repository.UserEventLinkBatchRepository;
 import com.muji_backend.kw_muji.calendar.repository.UserEventLinkRepository;
 import com.muji_backend.kw_muji.common.entity.*;
 import com.muji_backend.kw_muji.common.entity.enums.ProjectRole;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,12 +29,15 @@ import static org.junit.jupiter.api.Assertions.*;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Transactional
-@Import(CalendarService.class)
+@Import({CalendarService.class, UserEventLinkBatchRepository.class})
 class CalendarServiceTest {
 
     @Autowired
     private CalendarService calendarService;
 
+    @MockBean
+    private CalendarCache calendarCache; // Redis 없이 실행
+
     @Autowired
     private UserRepository userRepository;
     @Autowired
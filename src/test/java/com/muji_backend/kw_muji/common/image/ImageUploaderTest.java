@@ -0,0 +1,93 @@
+package com.muji_backend.kw_muji.common.image;
+
+import com.muji_backend.kw_muji.common.storage.InMemoryObjectStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageUploaderTest {
+
+    private final InMemoryObjectStorage objectStorage = new InMemoryObjectStorage();
+    private ImageUploader imageUploader;
+
+    @BeforeEach
+    void setUp() {
+        ImageProcessor imageProcessor = new ImageProcessor();
+        ReflectionTestUtils.setField(imageProcessor, "fullMaxSize", 1600);
+        ReflectionTestUtils.setField(imageProcessor, "thumbnailSize", 400);
+        ReflectionTestUtils.setField(imageProcessor, "jpegQuality", 0.85f);
+        ReflectionTestUtils.setField(imageProcessor, "maxPixels", 40_000_000L);
+
+        imageUploader = new ImageUploader(imageProcessor, objectStorage);
+    }
+
+    @DisplayName("업로드한 이미지는 축소된 원본과 썸네일로 저장된다.")
+    @Test
+    void 원본과_썸네일이_저장된다() throws Exception {
+        final MockMultipartFile file = new MockMultipartFile("image", "photo.jpg", "image/jpeg", jpeg(3000, 2000));
+
+        final StoredImage stored = imageUploader.upload("project/photo\\2024.jpg", file, "image/jpeg");
+
+        assertEquals("project/photo\\2024_thumb.jpg", stored.thumbnailKey());
+        final BufferedImage full = ImageIO.read(new ByteArrayInputStream(objectStorage.get(stored.key())));
+        final BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(objectStorage.get(stored.thumbnailKey())));
+        assertEquals(1600, full.getWidth());
+        assertEquals(400, thumbnail.getWidth());
+        assertEquals(267, thumbnail.getHeight());
+    }
+
+    @DisplayName("이미지가 아닌 파일은 저장하지 않는다.")
+    @Test
+    void 이미지가_아니면_실패() {
+        final MockMultipartFile file = new MockMultipartFile("image", "photo.jpg", "image/jpeg", "not an image".getBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> imageUploader.upload("project/photo.jpg", file, "image/jpeg"));
+        assertFalse(objectStorage.contains("project/photo.jpg"));
+    }
+
+    @DisplayName("EXIF 방향 값이 있는 사진은 회전한 뒤 저장한다.")
+    @Test
+    void EXIF_방향대로_회전한다() throws Exception {
+        final byte[] jpeg = jpeg(300, 200);
+        final ByteArrayOutputStream rotated = new ByteArrayOutputStream();
+        rotated.write(jpeg, 0, 2); // SOI 다음에 방향 값 6(시계 방향 90도)의 APP1 세그먼트 삽입
+        rotated.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, 34, 'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0, 0, 0, 0, 0});
+        rotated.write(jpeg, 2, jpeg.length - 2);
+        final MockMultipartFile file = new MockMultipartFile("image", "photo.jpg", "image/jpeg", rotated.toByteArray());
+
+        final StoredImage stored = imageUploader.upload("project/photo.jpg", file, "image/jpeg");
+
+        final BufferedImage full = ImageIO.read(new ByteArrayInputStream(objectStorage.get(stored.key())));
+        assertEquals(200, full.getWidth());
+        assertEquals(300, full.getHeight());
+    }
+
+    @DisplayName("다시 인코딩해도 작아지지 않는 작은 팔레트 PNG는 원본을 그대로 저장한다.")
+    @Test
+    void 작아지지_않으면_원본을_저장한다() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 300, BufferedImage.TYPE_BYTE_BINARY), "png", out);
+        final MockMultipartFile file = new MockMultipartFile("image", "logo.png", "image/png", out.toByteArray());
+
+        final StoredImage stored = imageUploader.upload("project/logo.png", file, "image/png");
+
+        assertArrayEquals(out.toByteArray(), objectStorage.get(stored.key()));
+        assertArrayEquals(out.toByteArray(), objectStorage.get(stored.thumbnailKey()));
+    }
+
+    private byte[] jpeg(final int width, final int height) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+}
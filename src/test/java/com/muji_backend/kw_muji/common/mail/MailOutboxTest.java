@@ -0,0 +1,96 @@
+package com.muji_backend.kw_muji.common.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private ThreadPoolTaskExecutor executor;
+    private MailOutbox mailOutbox;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        mailOutbox = new MailOutbox(mailSender, executor, new SimpleMeterRegistry(),
+                "noreply@kwmuji.com", 100, 2, 20, 5, 3000);
+        mailOutbox.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutbox.stop();
+        executor.shutdown();
+    }
+
+    @DisplayName("대기열에 넣은 메일이 요청 스레드와 별개로 모두 발송된다.")
+    @Test
+    void 대기열에_넣은_메일이_모두_발송된다() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mailOutbox.enqueue(new MailMessage("member" + i + "@kw.ac.kr", "프로젝트 시작 알림", "<p>시작</p>"));
+        }
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 5));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertEquals("프로젝트 시작 알림", received[0].getSubject());
+    }
+
+    @DisplayName("같은 사람에게 연달아 보낸 메일은 간격을 두고 발송된다.")
+    @Test
+    void 같은_사람에게_보낸_메일은_간격을_두고_발송된다() throws Exception {
+        mailOutbox.enqueue(new MailMessage("student@kw.ac.kr", "인증번호", "<p>111111</p>"));
+        mailOutbox.enqueue(new MailMessage("student@kw.ac.kr", "인증번호", "<p>222222</p>"));
+
+        assertTrue(greenMail.waitForIncomingEmail(2000, 1));
+        assertEquals(1, greenMail.getReceivedMessages().length); // 두 번째 메일은 아직 대기 중
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 2));
+    }
+
+    @DisplayName("커밋 후 대기열이 가득 차 있으면 예외 없이 메일을 버리고 집계한다.")
+    @Test
+    void 커밋_후_대기열이_가득_차면_예외_없이_버린다() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MailOutbox fullOutbox = new MailOutbox(new JavaMailSenderImpl(), executor, meterRegistry,
+                "noreply@kwmuji.com", 1, 1, 20, 5, 3000); // 워커를 시작하지 않아 대기열이 비워지지 않음
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // 커밋 전에는 둘 다 대기열에 여유가 있음
+            fullOutbox.enqueue(new MailMessage("member1@kw.ac.kr", "팀원 선정 안내", "<p>선정</p>"));
+            fullOutbox.enqueue(new MailMessage("member2@kw.ac.kr", "팀원 선정 안내", "<p>선정</p>"));
+
+            assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.messages", "result", "dropped").count());
+        assertThrows(IllegalStateException.class,
+                () -> fullOutbox.enqueue(new MailMessage("member3@kw.ac.kr", "팀원 선정 안내", "<p>선정</p>")));
+    }
+}
@@ -0,0 +1,114 @@
+package com.muji_backend.kw_muji.common.security;
+
+import com.muji_backend.kw_muji.common.config.jwt.JwtProperties;
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JwtAuthenticationFilter의 요청당 처리 시간 측정 (./gradlew benchmark)
+ * 같은 토큰으로 반복 요청하는 같은 부하에서, 캐시 적용 전(매 요청 파싱과 서명 검증)과 후를 비교
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilterBenchmarkTest.class);
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private JwtProperties jwtProperties;
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("kw-muji-benchmark");
+        jwtProperties.setSecretKey("benchmark-secret-key-benchmark-secret-key-benchmark-secret-key");
+
+        tokenProvider = new TokenProvider(jwtProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("같은 토큰으로 반복 요청하면 캐시 적용 전보다 요청당 처리 시간이 줄어든다.")
+    @Test
+    void 필터_요청당_처리_시간_측정() throws Exception {
+        List<String> tokens = Collections.nCopies(ITERATIONS, createToken(1L));
+
+        // 캐시 적용 전 - 매 요청마다 파싱과 서명 검증
+        JwtAuthenticationFilter before = new JwtAuthenticationFilter(new UncachedTokenProvider(jwtProperties));
+        run(before, tokens.subList(0, WARMUP));
+        double beforeNanos = run(before, tokens);
+
+        // 캐시 적용 후
+        JwtAuthenticationFilter after = new JwtAuthenticationFilter(tokenProvider);
+        run(after, tokens.subList(0, WARMUP));
+        double afterNanos = run(after, tokens);
+
+        log.info("JwtAuthenticationFilter - before: {} ns/op, after: {} ns/op ({}x)",
+                Math.round(beforeNanos), Math.round(afterNanos), Math.round(beforeNanos / afterNanos * 10) / 10.0);
+        assertTrue(afterNanos < beforeNanos, "캐시 적용 후 요청당 처리 시간이 줄어야 함");
+    }
+
+    // == Private Methods ==
+
+    private String createToken(long userId) {
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+        user.setEmail("user" + userId + "@kw.ac.kr");
+        return tokenProvider.createAccessToken(Optional.of(user));
+    }
+
+    // 요청당 평균 처리 시간(ns) 반환
+    private double run(JwtAuthenticationFilter filter, List<String> tokens) throws Exception {
+        long start = System.nanoTime();
+        for (String token : tokens) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/mypage");
+            request.addHeader("Authorization", "Bearer " + token);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+        return (double) (System.nanoTime() - start) / tokens.size();
+    }
+
+    // 캐시 적용 전의 검증 방식 - 캐시 없이 매번 파싱과 서명 검증
+    private static class UncachedTokenProvider extends TokenProvider {
+        private final JwtProperties jwtProperties;
+
+        UncachedTokenProvider(JwtProperties jwtProperties) {
+            super(jwtProperties);
+            this.jwtProperties = jwtProperties;
+        }
+
+        @Override
+        public Claims validateAndGetClaims(String token) {
+            return Jwts.parser()
+                    .setSigningKey(jwtProperties.getSecretKey())
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+}
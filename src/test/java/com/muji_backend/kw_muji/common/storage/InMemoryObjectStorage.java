@@ -0,0 +1,101 @@
+package com.muji_backend.kw_muji.common.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 저장소 - S3 대신 메모리에 저장하고, 삭제는 바로 반영
+ * 발급한 업로드 URL은 실제로 열 수 없으므로 클라이언트 업로드는 put()으로 대신함
+ */
+public class InMemoryObjectStorage implements ObjectStorage {
+
+    private final Map<String, Entry> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public void upload(String key, MultipartFile file, String contentType) throws IOException {
+        put(key, file.getBytes(), contentType);
+    }
+
+    @Override
+    public void upload(String key, byte[] content, String contentType) {
+        put(key, content, contentType);
+    }
+
+    @Override
+    public URL presignUpload(String key, String contentType, Duration expiry) {
+        try {
+            return new URL("https://storage.test/" + key.replace("\\", "%5C"));
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public URL presignDownload(String key, Duration expiry) {
+        return presignUpload(key, null, expiry);
+    }
+
+    @Override
+    public Optional<StoredObject> find(String key) {
+        final Entry entry = objects.get(key);
+        return entry == null
+                ? Optional.empty()
+                : Optional.of(new StoredObject(key, entry.content().length, entry.contentType()));
+    }
+
+    @Override
+    public byte[] download(String key) throws IOException {
+        final Entry entry = objects.get(key);
+        if (entry == null) {
+            throw new IOException("not found: " + key);
+        }
+        return entry.content().clone();
+    }
+
+    @Override
+    public void copy(String sourceKey, String targetKey) throws IOException {
+        final Entry entry = objects.get(sourceKey);
+        if (entry == null) {
+            throw new IOException("not found: " + sourceKey);
+        }
+        objects.put(targetKey, new Entry(entry.content().clone(), entry.contentType(), Instant.now()));
+    }
+
+    @Override
+    public int deleteOlderThan(String prefix, Instant cutoff) {
+        final int before = objects.size();
+        objects.entrySet().removeIf(e -> e.getKey().startsWith(prefix) && e.getValue().storedAt().isBefore(cutoff));
+        return before - objects.size();
+    }
+
+    @Override
+    public void deleteAfterCommit(String key) {
+        if (key != null) {
+            objects.remove(key);
+        }
+    }
+
+    public void put(String key, byte[] content, String contentType) {
+        objects.put(key, new Entry(content.clone(), contentType, Instant.now()));
+    }
+
+    public boolean contains(String key) {
+        return objects.containsKey(key);
+    }
+
+    public byte[] get(String key) {
+        final Entry entry = objects.get(key);
+        return entry != null ? entry.content() : null;
+    }
+
+    private record Entry(byte[] content, String contentType, Instant storedAt) {
+    }
+}
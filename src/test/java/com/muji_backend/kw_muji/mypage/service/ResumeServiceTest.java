@@ -0,0 +1,54 @@
+package com.muji_backend.kw_muji.mypage.service;
+
+import com.muji_backend.kw_muji.common.entity.ResumeEntity;
+import com.muji_backend.kw_muji.common.storage.InMemoryObjectStorage;
+import com.muji_backend.kw_muji.mypage.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class ResumeServiceTest {
+
+    private final InMemoryObjectStorage objectStorage = new InMemoryObjectStorage();
+    private ResumeService resumeService;
+
+    @BeforeEach
+    void setUp() {
+        resumeService = new ResumeService(mock(ResumeRepository.class), objectStorage);
+        ReflectionTestUtils.setField(resumeService, "resumeBucketFolder", "resume/");
+    }
+
+    @DisplayName("업로드한 포트폴리오는 저장소에 저장되고, 삭제하면 저장소에서도 지워진다.")
+    @Test
+    void 포트폴리오_업로드_후_삭제() throws Exception {
+        final byte[] content = "%PDF-1.4".getBytes();
+        final MultipartFile file = new MockMultipartFile("resume", "portfolio.pdf", "application/pdf", content);
+        final ResumeEntity resume = new ResumeEntity();
+
+        final String key = resumeService.uploadResume(new MultipartFile[]{file}, "홍길동", resume);
+        resume.setResumePath(key);
+
+        assertTrue(key.startsWith("resume/portfolio"));
+        assertEquals("portfolio", resume.getName());
+        assertArrayEquals(content, objectStorage.get(key));
+
+        resumeService.deleteResume(resume);
+
+        assertFalse(objectStorage.contains(key));
+    }
+
+    @DisplayName("PDF가 아닌 파일은 저장소에 저장하지 않는다.")
+    @Test
+    void PDF가_아니면_업로드_실패() {
+        final MultipartFile file = new MockMultipartFile("resume", "portfolio.png", "image/png", new byte[]{1});
+
+        assertThrows(IllegalArgumentException.class,
+                () -> resumeService.uploadResume(new MultipartFile[]{file}, "홍길동", new ResumeEntity()));
+    }
+}
@@ -0,0 +1,116 @@
+package com.muji_backend.kw_muji.upload.service;
+
+import com.muji_backend.kw_muji.common.entity.UserEntity;
+import com.muji_backend.kw_muji.common.image.ImageUploader;
+import com.muji_backend.kw_muji.common.storage.InMemoryObjectStorage;
+import com.muji_backend.kw_muji.mypage.service.MypageService;
+import com.muji_backend.kw_muji.mypage.service.ResumeService;
+import com.muji_backend.kw_muji.team.service.MyTeamService;
+import com.muji_backend.kw_muji.upload.dto.request.UploadSessionRequestDTO.UploadPurpose;
+import com.muji_backend.kw_muji.upload.repository.UploadSessionRepository;
+import com.muji_backend.kw_muji.upload.repository.UploadSessionRepository.UploadSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UploadSessionServiceTest {
+
+    private static final String KEY = "resume/portfolio.pdf";
+    private static final String STAGING_KEY = "upload/staging/session.pdf";
+
+    private final InMemoryObjectStorage objectStorage = new InMemoryObjectStorage();
+    private final UploadSessionRepository uploadSessionRepo = mock(UploadSessionRepository.class);
+    private final ResumeService resumeService = mock(ResumeService.class);
+    private final MypageService mypageService = mock(MypageService.class);
+    private UploadSessionService uploadSessionService;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        uploadSessionService = new UploadSessionService(uploadSessionRepo, objectStorage, mock(ImageUploader.class),
+                resumeService, mock(MyTeamService.class), mypageService);
+        ReflectionTestUtils.setField(uploadSessionService, "stagingPrefix", "upload/staging/");
+
+        user = new UserEntity();
+        user.setId(1L);
+        user.setEmail("user@kw.ac.kr");
+
+        when(uploadSessionRepo.find("session")).thenReturn(Optional.of(
+                new UploadSession("session", 1L, UploadPurpose.RESUME, KEY, STAGING_KEY, "application/pdf", "portfolio.pdf", 10, null)));
+        when(uploadSessionRepo.claim("session")).thenReturn(true);
+    }
+
+    @DisplayName("올라간 파일이 조건에 맞으면 포트폴리오로 등록된다.")
+    @Test
+    void 업로드_완료_시_포트폴리오_등록() throws Exception {
+        objectStorage.put(STAGING_KEY, new byte[5], "application/pdf");
+
+        uploadSessionService.complete(user, "session");
+
+        verify(resumeService).registerUploadedResume(any(), eq("portfolio.pdf"), eq(KEY));
+        assertTrue(objectStorage.contains(KEY));
+        assertFalse(objectStorage.contains(STAGING_KEY));
+    }
+
+    @DisplayName("완료된 뒤 업로드 URL로 다시 올려도 등록된 파일은 바뀌지 않는다.")
+    @Test
+    void 완료_후_덮어써도_등록된_파일은_그대로() throws Exception {
+        objectStorage.put(STAGING_KEY, new byte[5], "application/pdf");
+        uploadSessionService.complete(user, "session");
+
+        objectStorage.put(STAGING_KEY, new byte[100], "application/pdf"); // 아직 유효한 업로드 URL로 다시 업로드
+
+        assertEquals(5, objectStorage.get(KEY).length);
+    }
+
+    @DisplayName("완료되지 않은 오래된 임시 파일은 정리 작업에서 삭제된다.")
+    @Test
+    void 오래된_임시_파일_삭제() {
+        objectStorage.put(STAGING_KEY, new byte[5], "application/pdf");
+        objectStorage.put(KEY, new byte[5], "application/pdf");
+        ReflectionTestUtils.setField(uploadSessionService, "urlExpirySeconds", -3600L); // 세션 유지 시간이 이미 지난 것으로 처리
+
+        assertEquals(1, uploadSessionService.deleteExpiredStaging());
+        assertFalse(objectStorage.contains(STAGING_KEY));
+        assertTrue(objectStorage.contains(KEY));
+    }
+
+    @DisplayName("아직 파일이 올라가지 않았으면 세션을 유지해서 다시 완료 요청할 수 있다.")
+    @Test
+    void 파일이_없으면_세션_유지() {
+        assertThrows(IllegalArgumentException.class, () -> uploadSessionService.complete(user, "session"));
+
+        verify(uploadSessionRepo, never()).claim(anyString());
+    }
+
+    @DisplayName("허용된 크기를 넘는 파일은 등록하지 않고 삭제한다.")
+    @Test
+    void 크기를_넘으면_삭제() {
+        objectStorage.put(STAGING_KEY, new byte[11], "application/pdf");
+
+        assertThrows(IllegalArgumentException.class, () -> uploadSessionService.complete(user, "session"));
+
+        verifyNoInteractions(resumeService);
+        assertFalse(objectStorage.contains(KEY));
+        assertFalse(objectStorage.contains(STAGING_KEY));
+    }
+
+    @DisplayName("다른 사용자의 세션은 완료할 수 없다.")
+    @Test
+    void 다른_사용자의_세션() {
+        objectStorage.put(STAGING_KEY, new byte[5], "application/pdf");
+        user.setId(2L);
+
+        assertThrows(IllegalArgumentException.class, () -> uploadSessionService.complete(user, "session"));
+
+        verifyNoInteractions(resumeService);
+    }
+}